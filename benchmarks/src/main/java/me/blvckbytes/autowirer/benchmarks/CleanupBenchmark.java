@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.benchmarks;
+
+import me.blvckbytes.autowirer.AutoWirer;
+import me.blvckbytes.autowirer.testsupport.GraphGenerator;
+import me.blvckbytes.autowirer.testsupport.SyntheticGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cleans up a wired container whose singletons all implement ICleanable. As every invocation
+ * needs a freshly wired container, small graphs are dominated by the invocation overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CleanupBenchmark {
+
+  @Param({ "10", "100", "1000", "5000" })
+  public int bindings;
+
+  private SyntheticGraph graph;
+  private AutoWirer autoWirer;
+
+  @Setup
+  public void generate() {
+    graph = new GraphGenerator()
+      .nodes(bindings)
+      .cleanableShare(1)
+      .generate();
+  }
+
+  @Setup(Level.Invocation)
+  public void wire() {
+    autoWirer = graph.addTo(new AutoWirer()).wire(null);
+  }
+
+  @Benchmark
+  public void cleanup() {
+    autoWirer.cleanup();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.benchmarks;
+
+import me.blvckbytes.autowirer.AutoWirer;
+import me.blvckbytes.autowirer.PrototypeFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates non-singleton instances with singleton dependencies, as done per player or per session
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrototypeBenchmark {
+
+  public static class Dependency {}
+
+  public static class Prototype {
+    public Prototype(AutoWirer autoWirer, Dependency dependency) {}
+  }
+
+  private AutoWirer autoWirer;
+  private PrototypeFactory<Prototype> factory;
+
+  @Setup
+  public void setup() {
+    autoWirer = new AutoWirer().addSingleton(Dependency.class).wire(null);
+    factory = autoWirer.prototypeFactory(Prototype.class);
+  }
+
+  @Benchmark
+  public Prototype getOrInstantiateClass() {
+    return autoWirer.getOrInstantiateClass(Prototype.class, false);
+  }
+
+  @Benchmark
+  public Prototype prototypeFactory() {
+    return factory.create();
+  }
+}
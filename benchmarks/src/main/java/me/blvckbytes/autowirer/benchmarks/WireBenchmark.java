@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.benchmarks;
+
+import me.blvckbytes.autowirer.AutoWirer;
+import me.blvckbytes.autowirer.WiringPlan;
+import me.blvckbytes.autowirer.testsupport.GraphGenerator;
+import me.blvckbytes.autowirer.testsupport.SyntheticGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers and wires a generated graph into a new container, as done on enable
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WireBenchmark {
+
+  @Param({ "10", "100", "1000", "5000" })
+  public int bindings;
+
+  @Param({ "1", "4" })
+  public int fanIn;
+
+  @Param({ "2", "16" })
+  public int depth;
+
+  private SyntheticGraph graph;
+  private WiringPlan plan;
+
+  @Setup
+  public void setup() {
+    graph = new GraphGenerator()
+      .nodes(bindings)
+      .depth(depth)
+      .fanIn(fanIn)
+      .interfaceRatio(0)
+      .generate();
+    plan = graph.addTo(new AutoWirer()).compilePlan();
+  }
+
+  @Benchmark
+  public AutoWirer wire() {
+    return graph.addTo(new AutoWirer()).wire(null);
+  }
+
+  @Benchmark
+  public AutoWirer wireCompiledPlan() {
+    return new AutoWirer().wire(plan, null);
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a WiringFactory for every class annotated by AutoWire, which constructs
+ * the class by a direct constructor call. The names have to be kept in sync with the
+ * AutoWirer, as this module does not depend on it.
+ */
+@SupportedAnnotationTypes(WiringFactoryProcessor.ANNOTATION_NAME)
+public class WiringFactoryProcessor extends AbstractProcessor {
+
+  static final String ANNOTATION_NAME = "me.blvckbytes.autowirer.AutoWire";
+  static final String FACTORY_INTERFACE_NAME = "me.blvckbytes.autowirer.WiringFactory";
+  static final String FACTORY_NAME_SUFFIX = "_WiringFactory";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element instanceof TypeElement type && isWireable(type))
+          generateFactory(type);
+      }
+    }
+
+    return false;
+  }
+
+  private boolean isWireable(TypeElement type) {
+    if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+      error(type, "Only concrete classes can be auto-wired");
+      return false;
+    }
+
+    if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+      error(type, "Auto-wired nested classes need to be static");
+      return false;
+    }
+
+    for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+      if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+        error(type, "Auto-wired classes cannot be private or be nested within private classes");
+        return false;
+      }
+    }
+
+    List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+
+    if (constructors.size() != 1) {
+      error(type, "Auto-wired classes need to have exactly one constructor");
+      return false;
+    }
+
+    if (constructors.get(0).getModifiers().contains(Modifier.PRIVATE)) {
+      error(constructors.get(0), "The constructor of an auto-wired class cannot be private");
+      return false;
+    }
+
+    return true;
+  }
+
+  private void generateFactory(TypeElement type) {
+    Elements elements = processingEnv.getElementUtils();
+    Types types = processingEnv.getTypeUtils();
+
+    String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+    String binaryName = elements.getBinaryName(type).toString();
+    String factoryName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) + FACTORY_NAME_SUFFIX;
+    String typeName = types.erasure(type.asType()).toString();
+
+    List<? extends VariableElement> parameters = ElementFilter.constructorsIn(type.getEnclosedElements()).get(0).getParameters();
+
+    StringBuilder parameterTypes = new StringBuilder();
+    StringBuilder arguments = new StringBuilder();
+
+    for (int i = 0; i < parameters.size(); i++) {
+      TypeMirror parameterType = types.erasure(parameters.get(i).asType());
+
+      if (i != 0) {
+        parameterTypes.append(", ");
+        arguments.append(", ");
+      }
+
+      parameterTypes.append(parameterType).append(".class");
+      arguments.append('(').append(parameterType).append(") arguments[").append(i).append(']');
+    }
+
+    String qualifiedFactoryName = packageName.isEmpty() ? factoryName : packageName + "." + factoryName;
+
+    try (PrintWriter writer = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedFactoryName, type).openWriter())) {
+      if (!packageName.isEmpty())
+        writer.println("package " + packageName + ";");
+
+      writer.println();
+      writer.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+      writer.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+      writer.println("public final class " + factoryName + " implements " + FACTORY_INTERFACE_NAME + "<" + typeName + "> {");
+      writer.println();
+      writer.println("  private static final Class<?>[] PARAMETER_TYPES = " + (parameterTypes.isEmpty() ? "{}" : "{ " + parameterTypes + " }") + ";");
+      writer.println();
+      writer.println("  @Override");
+      writer.println("  public Class<?>[] getParameterTypes() {");
+      writer.println("    return PARAMETER_TYPES;");
+      writer.println("  }");
+      writer.println();
+      writer.println("  @Override");
+      writer.println("  public " + typeName + " create(Object[] arguments) throws Exception {");
+      writer.println("    return new " + typeName + "(" + arguments + ");");
+      writer.println("  }");
+      writer.println("}");
+    } catch (IOException exception) {
+      error(type, "Could not generate the wiring factory: " + exception.getMessage());
+    }
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
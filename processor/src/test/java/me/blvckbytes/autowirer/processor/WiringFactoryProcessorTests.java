@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.processor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WiringFactoryProcessorTests {
+
+  // The processor does not depend on the AutoWirer, thus its types are provided as sources
+  private static final String AUTO_WIRE = """
+    package me.blvckbytes.autowirer;
+
+    @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+    public @interface AutoWire {}
+    """;
+
+  private static final String WIRING_FACTORY = """
+    package me.blvckbytes.autowirer;
+
+    public interface WiringFactory<T> {
+      Class<?>[] getParameterTypes();
+      T create(Object[] arguments) throws Exception;
+    }
+    """;
+
+  private record Compilation(boolean success, List<String> errors, Path output) {}
+
+  @Test
+  public void shouldGenerateFactoriesWhichCallTheConstructor() throws Exception {
+    Compilation compilation = compile("test.Services", """
+      package test;
+
+      import me.blvckbytes.autowirer.AutoWire;
+
+      public class Services {
+        public static class Config {}
+
+        @AutoWire
+        public static class Database {
+          public final Config config;
+          public final int[] ports;
+
+          Database(Config config, int[] ports) {
+            this.config = config;
+            this.ports = ports;
+          }
+        }
+      }
+      """);
+
+    assertTrue(compilation.success(), String.join("\n", compilation.errors()));
+    assertTrue(Files.exists(compilation.output().resolve("test/Services$Database_WiringFactory.class")));
+
+    try (URLClassLoader loader = new URLClassLoader(new URL[] { compilation.output().toUri().toURL() })) {
+      Class<?> config = loader.loadClass("test.Services$Config");
+      Object factory = loader.loadClass("test.Services$Database_WiringFactory").getConstructor().newInstance();
+      Class<?> factoryInterface = loader.loadClass("me.blvckbytes.autowirer.WiringFactory");
+
+      Class<?>[] parameterTypes = (Class<?>[]) factoryInterface.getMethod("getParameterTypes").invoke(factory);
+      assertArrayEquals(new Class<?>[] { config, int[].class }, parameterTypes);
+
+      Object configInstance = config.getConstructor().newInstance();
+      int[] ports = { 25565 };
+      Object database = factoryInterface.getMethod("create", Object[].class).invoke(factory, (Object) new Object[] { configInstance, ports });
+
+      assertSame(configInstance, database.getClass().getField("config").get(database));
+      assertSame(ports, database.getClass().getField("ports").get(database));
+    }
+  }
+
+  @Test
+  public void shouldRejectClassesWhichCannotBeConstructed() throws Exception {
+    Compilation compilation = compile("test.Invalid", """
+      package test;
+
+      import me.blvckbytes.autowirer.AutoWire;
+
+      public class Invalid {
+        @AutoWire
+        public abstract static class Abstract {}
+
+        @AutoWire
+        public class Inner {}
+
+        @AutoWire
+        private static class Hidden {}
+
+        @AutoWire
+        public static class Overloaded {
+          public Overloaded() {}
+          public Overloaded(String name) {}
+        }
+
+        @AutoWire
+        public static class Singleton {
+          private Singleton() {}
+        }
+      }
+      """);
+
+    assertFalse(compilation.success());
+    assertEquals(List.of(
+      "Only concrete classes can be auto-wired",
+      "Auto-wired nested classes need to be static",
+      "Auto-wired classes cannot be private or be nested within private classes",
+      "Auto-wired classes need to have exactly one constructor",
+      "The constructor of an auto-wired class cannot be private"
+    ), compilation.errors());
+  }
+
+  private static Compilation compile(String className, String source) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    Path output = Files.createTempDirectory("wiring-factory-processor");
+
+    List<JavaFileObject> sources = List.of(
+      sourceOf("me.blvckbytes.autowirer.AutoWire", AUTO_WIRE),
+      sourceOf("me.blvckbytes.autowirer.WiringFactory", WIRING_FACTORY),
+      sourceOf(className, source)
+    );
+
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+      JavaCompiler.CompilationTask task = compiler.getTask(
+        null, fileManager, diagnostics,
+        List.of("-d", output.toString(), "-s", output.toString()),
+        null, sources
+      );
+
+      task.setProcessors(List.of(new WiringFactoryProcessor()));
+      boolean success = task.call();
+
+      List<String> errors = new ArrayList<>();
+
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR)
+          errors.add(diagnostic.getMessage(Locale.ROOT));
+      }
+
+      return new Compilation(success, errors, output);
+    }
+  }
+
+  private static JavaFileObject sourceOf(String className, String source) {
+    URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+
+    return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+  }
+}
@@ -5,8 +5,21 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -14,16 +27,78 @@ public class AutoWirer implements IAutoWirer {
 
 	private final Logger logger = Logger.getLogger(this.getClass().getName());
 	private @Nullable Consumer<Exception> exceptionHandler;
+	private boolean reflectiveConstructors;
+	private @Nullable Executor wiringExecutor;
+	private final Map<Class<?>, ReentrantLock> parallelWiringLocks = new ConcurrentHashMap<>();
+	private volatile boolean wiringInParallel;
+	private @Nullable Executor initializationExecutor;
+	private @Nullable Executor cleanupExecutor;
+	private @Nullable Duration cleanupDeadline;
 
-	private final Map<Class<?>, ConstructorInfo> singletonConstructors = new HashMap<>();
-	private final List<Tuple<Object, @Nullable ConstructorInfo>> singletonInstances = new ArrayList<>();
+	private final Map<Class<?>, ConstructorInfo> singletonConstructors = new ConcurrentHashMap<>();
+	private final List<Class<?>> bindingOrder = new ArrayList<>();
+	private final TypeIndex<Class<?>> bindingIndex = new TypeIndex<>();
+	private final List<SingletonInstance> singletonInstances = new ArrayList<>();
+	private final TypeIndex<Object> instanceIndex = new TypeIndex<>();
 	private final List<Object> existingSingletonsToCallListenersOn = new ArrayList<>();
 	private final List<InstantiationListener> instantiationListeners = new ArrayList<>();
-	private final Set<Class<?>> encounteredClasses = new HashSet<>();
+	private volatile InstantiationListener[] registeredListeners = new InstantiationListener[0];
+	private final Map<Class<?>, InstantiationListener[]> listenerDispatch = new ConcurrentHashMap<>();
+	private final Map<InstantiationListener, Object[]> listenerArguments = new ConcurrentHashMap<>();
+	private final ThreadLocal<Set<Class<?>>> encounteredClasses = ThreadLocal.withInitial(HashSet::new);
+	private final Set<Class<?>> lazyBindings = ConcurrentHashMap.newKeySet();
+	private final Map<Class<?>, Object> lazyProxies = new ConcurrentHashMap<>();
+	private @Nullable WiringPlan compiledPlan;
+	private boolean freezeAfterWire;
+	private volatile @Nullable Map<Class<?>, Object> frozenInstances;
+	private final Map<Class<?>, ConstructorInfo> prototypeConstructors = new ConcurrentHashMap<>();
+	private final Map<Class<?>, PrototypeFactory<?>> prototypeFactories = new ConcurrentHashMap<>();
+	private final @Nullable AutoWirer parent;
+	private @Nullable WiringMetrics metrics;
+	private final Set<Class<?>> mainThreadBindings = ConcurrentHashMap.newKeySet();
+	private volatile @Nullable Executor mainThreadExecutor;
+	private volatile @Nullable Thread mainThread;
+	private final LinkedBlockingQueue<Runnable> mainThreadWork = new LinkedBlockingQueue<>();
+	private volatile boolean wiringOnMainThread;
+	private volatile @Nullable BudgetedWiring budgetedWiring;
 
 	public AutoWirer() {
+		this(null);
+	}
+
+	/**
+	 * @param parent Container to delegate lookups to which cannot be resolved locally, if any
+	 */
+	protected AutoWirer(final @Nullable AutoWirer parent) {
+		this.parent = parent;
+
 		// Support for the AutoWirer itself as a dependency
-		this.singletonInstances.add(new Tuple<>(this, null));
+		this.registerInstance(this, null, SingletonInstance.NO_DEPENDENCIES);
+	}
+
+	/**
+	 * Creates a child container, which resolves all singletons it does not hold itself through this
+	 * container. Bindings and singletons of the child take precedence over those of this container, even
+	 * before the child has been wired. As the child only holds its own bindings, creating it is cheap, and
+	 * its cleanup only cleans up instances it created. The child inherits the exception handler as well as
+	 * the choice of constructors, but neither instantiation listeners nor executors.
+	 *
+	 * @return The new child container
+	 */
+	public AutoWirer createChild() {
+		final AutoWirer child = this.newChild();
+		child.exceptionHandler = this.exceptionHandler;
+		child.reflectiveConstructors = this.reflectiveConstructors;
+		return child;
+	}
+
+	/**
+	 * Creates an empty child of this container, which subclasses override in order to create children of their own kind.
+	 *
+	 * @return The new child container, without any settings applied
+	 */
+	protected AutoWirer newChild() {
+		return new AutoWirer(this);
 	}
 
 	/**
@@ -36,11 +111,12 @@ public class AutoWirer implements IAutoWirer {
 	 * @return The AutoWirer instance with the instantiation listener added
 	 */
 	@SuppressWarnings("unchecked")
-	public <T> AutoWirer addInstantiationListener(
+	public synchronized <T> AutoWirer addInstantiationListener(
 			final @NotNull Class<T> clazz,
 			final @NotNull FUnsafeBiConsumer<T, Object[], Exception> creationListener,
 			final @NotNull Class<?>... dependencies
 	) {
+		this.ensureNotFrozen();
 		this.instantiationListeners.add(
 				new InstantiationListener(
 						clazz,
@@ -48,6 +124,8 @@ public class AutoWirer implements IAutoWirer {
 						dependencies
 				)
 		);
+		this.registeredListeners = this.instantiationListeners.toArray(new InstantiationListener[0]);
+		this.listenerDispatch.clear();
 		return this;
 	}
 
@@ -60,7 +138,30 @@ public class AutoWirer implements IAutoWirer {
 	public synchronized AutoWirer addSingleton(
 			final @NotNull Class<?> clazz
 	) {
+		this.ensureNotFrozen();
+		this.registerConstructor(clazz);
+		return this;
+	}
+
+	/**
+	 * Adds a lazy singleton class to the `AutoWirer` for dependency injection. Its dependencies are
+	 * still resolved while wiring, but dependents receive a proxy which implements all interfaces of
+	 * the class and only constructs the actual instance on the first method call. Instantiation listeners
+	 * and `IInitializable#initialize` are called on the actual instance right after its construction,
+	 * where a failed initialization is rethrown by all further calls instead of constructing anew.
+	 * Lazy singletons can thereby only be injected by their interfaces; classes without interfaces
+	 * are instantiated eagerly.
+	 *
+	 * @param clazz The class to be added as a lazy singleton
+	 * @return The `AutoWirer` instance with the lazy singleton class added
+	 */
+	public synchronized AutoWirer addLazySingleton(
+			final @NotNull Class<?> clazz
+	) {
+		this.ensureNotFrozen();
 		this.registerConstructor(clazz);
+		this.lazyBindings.add(clazz);
+		this.compiledPlan = null;
 		return this;
 	}
 
@@ -81,7 +182,8 @@ public class AutoWirer implements IAutoWirer {
 			final @Nullable FUnsafeConsumer<T, Exception> onCleanup,
 			final @NotNull Class<?>... dependencies
 	) {
-		this.singletonConstructors.putIfAbsent(
+		this.ensureNotFrozen();
+		this.registerBinding(
 				clazz,
 				new ConstructorInfo(
 						dependencies,
@@ -112,7 +214,9 @@ public class AutoWirer implements IAutoWirer {
 	 * @return The `AutoWirer` instance with the existing singleton added
 	 */
     public synchronized AutoWirer addExistingSingleton(final @NotNull Object value, final boolean callInstantiationListeners) {
-		this.singletonInstances.add(new Tuple<>(value, null));
+		this.ensureNotFrozen();
+		this.registerInstance(value, null, SingletonInstance.NO_DEPENDENCIES);
+		this.compiledPlan = null;
 
         if (callInstantiationListeners) {
             this.existingSingletonsToCallListenersOn.add(value);
@@ -135,282 +239,2302 @@ public class AutoWirer implements IAutoWirer {
 	}
 
 	/**
-	 * Wires the dependencies by instantiating singleton classes, calling instantiation listeners,
-	 * and initializing instances implementing the `IInitializable` interface.
+	 * Sets whether constructors of classes without a generated factory are invoked by plain reflection,
+	 * rather than by a method handle which is created once per class.
 	 *
-	 * @param success Consumer function to be executed upon successful wiring
-	 * @return The `AutoWirer` instance
+	 * @param enabled Whether to fall back to reflective invocation
+	 * @return The `AutoWirer` instance with the constructor invocation strategy set
 	 */
-	public AutoWirer wire(
-		final @Nullable Consumer<AutoWirer> success
+	public AutoWirer reflectiveConstructors(
+			final boolean enabled
 	) {
-		Class<?> checkSingleton = null;
-		Object checkExistingSingleton = null;
-		try {
-			for (
-				final Class<?> singletonType : this.singletonConstructors.keySet()
-			) {
-				checkSingleton = singletonType;
-				this.getOrInstantiateClass(singletonType, null, true);
-			}
-			
-			for (
-				final Object existingSingleton : this.existingSingletonsToCallListenersOn
-			) {
-				checkExistingSingleton = existingSingleton;
-				this.callInstantiationListeners(existingSingleton);
-			}
-			
-			for (
-				final Tuple<Object, @Nullable ConstructorInfo> data : this.singletonInstances
-			) {
-				final Object instance = data.a;
-				if (instance instanceof IInitializable)
-					((IInitializable) instance).initialize();
-			}
-			
-			if (
-				success != null
-			) success.accept(this);
-			return this;
-		} catch (
-			final Exception exception
-		) {
-			if (this.exceptionHandler != null) {
-				this.exceptionHandler.accept(exception);
-				return this;
-			}
-			
-			this.logger.log(
-				Level.SEVERE,
-				"Exception occurred in checkSingleton: " + checkSingleton + "or checkExistingSingleton: " + checkExistingSingleton, exception);
-			return this;
-		}
+		this.reflectiveConstructors = enabled;
+		return this;
 	}
 
 	/**
-	 * Executes cleanup operations for all singleton instances, calling their 'cleanup' methods if they implement the 'ICleanable' interface.
-	 * Additionally, performs external cleanup if specified in the 'ConstructorInfo' associated with each instance.
+	 * Sets whether timings of constructors, instantiation listeners, initializers and cleanups, as well as
+	 * lookup counts, are recorded per bound class. While disabled, no timestamps are taken at all.
+	 *
+	 * @param enabled Whether to record metrics
+	 * @return The `AutoWirer` instance with metrics enabled or disabled
+	 * @see #getMetrics()
 	 */
-	public void cleanup() {
-		this.executeAndCollectExceptions(executor -> {
-			for (
-					int i = this.singletonInstances.size() - 1; i >= 0; i--
-			) {
-				final Tuple<Object, @Nullable ConstructorInfo> data = this.singletonInstances.remove(i);
-				final Object instance = data.a;
+	public AutoWirer recordMetrics(
+			final boolean enabled
+	) {
+		if (!enabled)
+			this.metrics = null;
 
-				if (
-						instance instanceof ICleanable iCleanable
-				) executor.accept(iCleanable::cleanup);
+		else if (this.metrics == null)
+			this.metrics = new WiringMetrics();
 
-				final ConstructorInfo constructorInfo = data.b;
+		return this;
+	}
 
-				if (
-						constructorInfo == null ||
-							constructorInfo.externalCleanup == null
-				) continue;
+	/**
+	 * Get the metrics which have been recorded so far, or null if metrics are disabled
+	 */
+	public @Nullable WiringMetrics getMetrics() {
+		return this.metrics;
+	}
 
-				executor.accept(() -> constructorInfo.externalCleanup.accept(instance));
-			}
+	/**
+	 * Creates a report of all singletons which have been wired so far, annotated with the metrics recorded
+	 * while wiring, which points out the critical path of dependencies as well as the slack of each singleton.
+	 *
+	 * @return The startup report
+	 * @throws IllegalStateException If metrics are disabled
+	 * @see #recordMetrics(boolean)
+	 */
+	public StartupReport createStartupReport() {
+		if (
+			this.metrics == null
+		) throw new IllegalStateException("Startup reports require metrics to be recorded while wiring");
 
-			this.singletonConstructors.clear();
-		});
-	}
+		final SingletonInstance[] instances;
 
-	@Override
-	public int getInstancesCount() {
-		return this.singletonInstances.size();
+		synchronized (this.singletonInstances) {
+			// The AutoWirer itself takes no time to construct and would only clutter the report
+			instances = this.singletonInstances.stream()
+				.filter(data -> data.instance != this)
+				.toArray(SingletonInstance[]::new);
+		}
+
+		return StartupReport.create(instances, this.resolveInstanceDependencies(instances));
 	}
 
 	/**
-	 * Provides a consumer for unsafe runnables, which are immediately executed within
-	 * a try-catch block. Thrown exceptions are collected and thrown at the end.
+	 * Sets whether the `AutoWirer` freezes itself after having been wired successfully.
+	 *
+	 * @param enabled Whether to freeze after wiring
+	 * @return The `AutoWirer` instance with freezing after wiring set
+	 * @see #freeze()
 	 */
-	private void executeAndCollectExceptions(
-			final Consumer<Consumer<FUnsafeRunnable<Exception>>> executor
+	public AutoWirer freezeAfterWire(
+			final boolean enabled
 	) {
-		final List<Exception> thrownExceptions = new ArrayList<>();
-		executor.accept(task -> {
-			try {
-				task.run();
-			} catch (
-					final Exception exception
-			) {
-				thrownExceptions.add(exception);
-			}
-		});
+		this.freezeAfterWire = enabled;
+		return this;
+	}
 
-    if (
-			thrownExceptions.isEmpty()
-	) return;
+	/**
+	 * Freezes the `AutoWirer`, which publishes an immutable snapshot of all singleton instances. Afterward,
+	 * lookups may be performed by any thread, without locks or allocations, while all attempts to add listeners,
+	 * bindings or singletons throw an `IllegalStateException`. Prototypes may still be instantiated concurrently,
+	 * as long as their dependencies are satisfied by existing singletons. Cleaning up unfreezes the `AutoWirer`.
+	 *
+	 * @return The `AutoWirer` instance, frozen
+	 */
+	public synchronized AutoWirer freeze() {
+		if (
+			this.frozenInstances == null
+		) this.frozenInstances = this.instanceIndex.snapshot(candidates -> (
+			candidates.size() == 1
+				? candidates.get(0)
+				: new AmbiguousInstances(candidates.get(0).getClass(), candidates.get(1).getClass())
+		));
 
-    // Throw the first thrown exception and add the remaining as suppressed
-    final Exception exception = new Exception(thrownExceptions.getFirst());
+		return this;
+	}
 
-    for (
-			int i = 1; i < thrownExceptions.size(); i++
-	) exception.addSuppressed(thrownExceptions.get(i));
+	/**
+	 * Whether the `AutoWirer` has been frozen and thus cannot be modified anymore.
+	 */
+	public boolean isFrozen() {
+		return this.frozenInstances != null;
+	}
 
-    this.logger.log(Level.SEVERE, "Exception: ", exception);
-  }
+	private void ensureNotFrozen() {
+		if (
+			this.frozenInstances != null
+		) throw new IllegalStateException("The AutoWirer has been frozen and cannot be modified anymore");
+	}
+
+	private void ensureNotWiringBudgeted() {
+		if (
+			this.budgetedWiring != null
+		) throw new IllegalStateException("The AutoWirer is being wired across ticks and cannot be wired again until completion");
+	}
 
 	/**
-	 * Finds the ConstructorInfo for a given class by checking if the class is assignable from the keys in singletonConstructors.
+	 * Enables parallel wiring on the common fork-join pool.
 	 *
-	 * @param clazz The class for which to find the ConstructorInfo
-	 * @return An Optional containing the ConstructorInfo if found, otherwise empty
+	 * @return The `AutoWirer` instance with parallel wiring enabled
+	 * @see #parallelWiring(Executor)
 	 */
-	private Optional<ConstructorInfo> findConstructorInfo(
-		final @NotNull Class<?> clazz
-	) {
-		ConstructorInfo result = null;
+	public AutoWirer parallelWiring() {
+		return this.parallelWiring(ForkJoinPool.commonPool());
+	}
 
-		for (
-			final Map.Entry<Class<?>, ConstructorInfo> entry : singletonConstructors.entrySet()
-		) {
-			if (
-				clazz.isAssignableFrom(entry.getKey())
-			) {
-				result = entry.getValue();
-			}
-		}
+	/**
+	 * Enables parallel wiring, which first computes the dependency graph of all singletons and then
+	 * instantiates them level by level, where all singletons of a level only depend on those of previous
+	 * levels and are thus instantiated concurrently. Every singleton is instantiated just like when wiring
+	 * sequentially, on the thread which constructs it, thus its instantiation listeners are called and it is
+	 * registered right after its construction. Each binding is guarded by a lock while wiring, such that
+	 * listeners which request a binding that is just being instantiated wait for it, rather than creating
+	 * another instance, and the very same instances are created as when wiring sequentially.
+	 *
+	 * @param executor The executor to instantiate singletons on
+	 * @return The `AutoWirer` instance with parallel wiring enabled
+	 */
+	public AutoWirer parallelWiring(
+			final @NotNull Executor executor
+	) {
+		this.wiringExecutor = executor;
+		return this;
+	}
 
-		return Optional.ofNullable(result);
+	/**
+	 * Enables parallel initialization on the common fork-join pool.
+	 *
+	 * @return The `AutoWirer` instance with parallel initialization enabled
+	 * @see #parallelInitialization(Executor)
+	 */
+	public AutoWirer parallelInitialization() {
+		return this.parallelInitialization(ForkJoinPool.commonPool());
 	}
 
+	/**
+	 * Enables parallel initialization, where `IInitializable#initialize` is called concurrently on all
+	 * instances whose dependencies finished initializing. Exceptions are collected per instance, while
+	 * instances depending on a failed instance are skipped. All collected exceptions are reported at
+	 * the end of wiring, bundled as suppressed exceptions.
+	 *
+	 * @param executor The executor to call initializers on
+	 * @return The `AutoWirer` instance with parallel initialization enabled
+	 */
+	public AutoWirer parallelInitialization(
+			final @NotNull Executor executor
+	) {
+		this.initializationExecutor = executor;
+		return this;
+	}
 
 	/**
-	 * Finds an instance of the specified class if it exists within the singleton instances.
-	 * If multiple instances are found, logs a severe message and returns an empty Optional.
-	 * If no instance is found, returns an empty Optional.
+	 * Enables parallel cleanup on the common fork-join pool.
 	 *
-	 * @param clazz The class to find an instance of
-	 * @param <T>   The type of the class
-	 * @return An Optional containing the found instance if present, otherwise an empty Optional
+	 * @param deadline Maximum duration to wait for all cleanups to complete, waits indefinitely if null
+	 * @return The `AutoWirer` instance with parallel cleanup enabled
+	 * @see #parallelCleanup(Executor, Duration)
 	 */
-    @Override
-    public <T> @NotNull Optional<T> findInstance(Class<T> clazz) {
-		Object result = null;
-        for (Tuple<Object, ConstructorInfo> existing : this.singletonInstances) {
-            if (clazz.isInstance(existing.a)) {
-                if (result != null) {
-                    logger.severe("Found multiple possible instances of clazz " + clazz + " (" + existing.a.getClass() + ", " + result.getClass() + ")");
-                    return Optional.empty();
-                }
-                result = existing.a;
-            }
-        }
+	public AutoWirer parallelCleanup(
+			final @Nullable Duration deadline
+	) {
+		return this.parallelCleanup(ForkJoinPool.commonPool(), deadline);
+	}
 
-        return Optional.ofNullable(clazz.cast(result));
-    }
+	/**
+	 * Enables parallel cleanup, where instances are cleaned up concurrently as soon as all instances
+	 * which have been constructed with them, or whose instantiation listeners depended on them, finished
+	 * cleaning up. Existing singletons are still cleaned up after all instances registered after them.
+	 * Other dependencies, such as instances looked up by {@link #findInstance(Class)}, are not known and
+	 * thus not waited for, which requires sequential cleanup if their order matters. Exceptions are
+	 * collected just like when cleaning up sequentially. Cleanups still running once the deadline elapsed
+	 * are reported and left running, while the `AutoWirer` is cleared regardless.
+	 *
+	 * @param executor The executor to call cleanups on
+	 * @param deadline Maximum duration to wait for all cleanups to complete, waits indefinitely if null
+	 * @return The `AutoWirer` instance with parallel cleanup enabled
+	 */
+	public AutoWirer parallelCleanup(
+			final @NotNull Executor executor,
+			final @Nullable Duration deadline
+	) {
+		this.cleanupExecutor = executor;
+		this.cleanupDeadline = deadline;
+		return this;
+	}
 
 	/**
-	 * Calls the instantiation listeners for the given instance.
-	 * <p>
-	 * Iterates through the list of instantiation listeners and executes the listener's action
-	 * if the listener's type is an instance of the provided instance.
+	 * Runs constructors, initializers and cleanups on virtual threads, one per invocation, by enabling
+	 * parallel wiring, initialization and cleanup with a virtual thread executor. Blocking invocations
+	 * thereby overlap without the need of sizing a pool of platform threads, while their order is still
+	 * determined by the dependency graph. A previously set cleanup deadline is kept.
 	 *
-	 * @param instance the object instance for which the listeners are called
+	 * @return The `AutoWirer` instance with virtual threads enabled
 	 */
-    private void callInstantiationListeners(final @NotNull Object instance) {
-        for (final InstantiationListener listener : this.instantiationListeners) {
-            if (!listener.type.isInstance(instance)) {
-                continue;
-            }
+	public AutoWirer useVirtualThreads() {
+		final ThreadFactory threadFactory = Thread.ofVirtual().name("AutoWirer-", 0).factory();
+		final Executor executor = task -> threadFactory.newThread(task).start();
 
-            Object[] args = new Object[listener.dependencies.length];
-            for (int i = 0; i < args.length; i++) {
-                args[i] = this.getOrInstantiateClass(listener.dependencies[i], null, true);
-            }
+		this.wiringExecutor = executor;
+		this.initializationExecutor = executor;
+		this.cleanupExecutor = executor;
+		return this;
+	}
 
-            try {
-                listener.listener.accept(instance, args);
-            } catch (Exception exception) {
-                this.logger.log(Level.SEVERE, "Exception in listener of type " + listener.type + ": ", exception);
-            }
-        }
-    }
+	/**
+	 * Wires the dependencies by instantiating singleton classes, calling instantiation listeners,
+	 * and initializing instances implementing the `IInitializable` interface. The bindings are
+	 * compiled into a plan first, which is kept until the bindings change.
+	 *
+	 * @param success Consumer function to be executed upon successful wiring
+	 * @return The `AutoWirer` instance
+	 * @throws IllegalStateException If a wiring started by {@link #wireBudgeted(TickDriver, Duration, Consumer)} is in progress
+	 * @see #compilePlan()
+	 */
+	public AutoWirer wire(
+		final @Nullable Consumer<AutoWirer> success
+	) {
+		this.ensureNotWiringBudgeted();
+		return this.wire(this.compilePlan(), success);
+	}
 
 	/**
-	 * Retrieves an existing instance or instantiates a new instance of the specified class.
-	 * If the class is set as a singleton, it checks for an existing instance first.
-	 * Handles dependencies, circular dependencies, and instantiation listeners.
+	 * Wires the dependencies by executing a compiled plan, which may also have been compiled by another
+	 * `AutoWirer`, in which case its bindings are adopted. Constructor parameters which are not provided
+	 * by the plan itself are looked up in this `AutoWirer` once per execution.
 	 *
-	 * @param clazz The class to retrieve or instantiate
-	 * @param parentClazz The parent class (if any) that triggered the instantiation
-	 * @param singleton Flag indicating if the class should be treated as a singleton
-	 * @return The retrieved or newly instantiated object, or null if instantiation fails
+	 * @param plan The plan to execute
+	 * @param success Consumer function to be executed upon successful wiring
+	 * @return The `AutoWirer` instance
+	 * @throws IllegalStateException If a wiring started by {@link #wireBudgeted(TickDriver, Duration, Consumer)} is in progress
 	 */
-    private @Nullable Object getOrInstantiateClass(
-            final @NotNull Class<?> clazz,
-            final @Nullable Class<?> parentClazz,
-            final boolean singleton
-    ) {
-        if (singleton) {
-            Optional<?> existing = this.findInstance(clazz);
-            if (existing.isPresent()) {
-                return existing.get();
-            }
-        }
+	public AutoWirer wire(
+		final @NotNull WiringPlan plan,
+		final @Nullable Consumer<AutoWirer> success
+	) {
+		this.ensureNotFrozen();
+		this.ensureNotWiringBudgeted();
 
-        Optional<ConstructorInfo> constructorInfo = this.findConstructorInfo(clazz);
-        if (constructorInfo.isEmpty()) {
-            this.logger.severe(
-                    "Unknown dependency of " + clazz + "."
-            );
-            return null;
-        }
+		final WiringProgress progress = new WiringProgress();
 
-		if (!this.encounteredClasses.add(clazz)) {
-			this.logger.severe(
-					"Circular dependency detected: " + clazz + " of parent class " + parentClazz
-			);
-			return null;
-		}
+		try {
+			this.executePlan(plan, progress);
 
-        Object[] argumentValues = new Object[constructorInfo.get().parameters.length];
-        for (int i = 0; i < argumentValues.length; i++) {
-            argumentValues[i] = this.getOrInstantiateClass(
-                    constructorInfo.get().parameters[i],
-                    parentClazz,
-                    true
-            );
+			if (
+				success != null
+			) success.accept(this);
 
-            if (argumentValues[i] instanceof Optional) {
-                argumentValues[i] = ((Optional<?>) argumentValues[i]).orElse(null);
-            }
-        }
+			if (
+				this.freezeAfterWire
+			) this.freeze();
 
-        Object instance = null;
-        try {
-            instance = constructorInfo.get().constructor.apply(argumentValues);
-        } catch (Exception exception) {
-            this.logger.log(
-                    Level.SEVERE,
-                    "Exception in getOrInstantiateClass " + constructorInfo + ": " + clazz, exception
-            );
-        } finally {
-			this.encounteredClasses.remove(clazz);
+			return this;
+		} catch (
+			final Exception exception
+		) {
+			this.handleWiringException(exception, progress);
+			return this;
 		}
+	}
 
-        if (instance == null) {
-            return null;
-        }
-
-        this.callInstantiationListeners(instance);
-
-        if (singleton) {
-            this.singletonInstances.add(
-                    new Tuple<>(instance, constructorInfo.get())
-            );
-        }
+	/**
+	 * Passes an exception which aborted wiring to the exception handler, or logs it if there is none.
+	 *
+	 * @param exception The exception which aborted wiring
+	 * @param progress The progress of wiring up until the exception
+	 */
+	private void handleWiringException(
+		final @NotNull Exception exception,
+		final @NotNull WiringProgress progress
+	) {
+		if (this.exceptionHandler != null) {
+			this.exceptionHandler.accept(exception);
+			return;
+		}
 
-        return instance;
-    }
+		this.logger.log(
+			Level.SEVERE,
+			"Exception occurred in checkSingleton: " + progress.singleton + "or checkExistingSingleton: " + progress.existingSingleton, exception);
+	}
 
 	/**
-	 * Retrieves an instance of a class or instantiates it if necessary.
+	 * Wires the dependencies just like {@link #wire(Consumer)}, but spread across ticks, where the driver calls
+	 * a step once per tick, which performs work for at most the given budget. Work is done in units of a single
+	 * construction, listener call or initialization, of which there is always at least one per tick, and as units
+	 * cannot be interrupted, a slow unit may exceed the budget. Units run in the same order as when wiring at once,
+	 * always sequentially, and an exception aborts wiring and is handled just the same. The plan is compiled
+	 * right away on the calling thread, as compilation cannot be split into units. Until wiring completed or
+	 * has been aborted, the `AutoWirer` can neither be wired again nor have singletons re-created.
+	 *
+	 * @param driver The driver which calls the step once per tick
+	 * @param budget Maximum duration of work per tick
+	 * @param success Consumer function to be executed upon successful wiring
+	 * @return The `AutoWirer` instance
+	 * @throws IllegalStateException If another wiring started by this method is still in progress
+	 */
+	public synchronized AutoWirer wireBudgeted(
+		final @NotNull TickDriver driver,
+		final @NotNull Duration budget,
+		final @Nullable Consumer<AutoWirer> success
+	) {
+		this.ensureNotFrozen();
+		this.ensureNotWiringBudgeted();
+
+		final BudgetedWiring wiring = new BudgetedWiring(this.compilePlan(), budget.toNanos(), success);
+		this.budgetedWiring = wiring;
+		driver.everyTick(wiring);
+		return this;
+	}
+
+	/**
+	 * Executes the compiled plan one unit of work after another, within a budget per call.
+	 */
+	private final class BudgetedWiring implements BooleanSupplier {
+
+		private static final int PREPARE = 0, INSTANTIATE = 1, LISTENERS = 2, INITIALIZE = 3, COMPLETE = 4;
+
+		private final WiringPlan plan;
+		private final long budgetNanos;
+		private final @Nullable Consumer<AutoWirer> success;
+		private final WiringProgress progress = new WiringProgress();
+
+		private int phase = PREPARE;
+		private int index;
+		private Object[] instances;
+		private Object[] externals;
+
+		private BudgetedWiring(
+			final @NotNull WiringPlan plan,
+			final long budgetNanos,
+			final @Nullable Consumer<AutoWirer> success
+		) {
+			this.plan = plan;
+			this.budgetNanos = budgetNanos;
+			this.success = success;
+		}
+
+		@Override
+		public boolean getAsBoolean() {
+			final long deadline = System.nanoTime() + this.budgetNanos;
+
+			try {
+				do {
+					if (
+						!this.advance()
+					) return false;
+				} while (System.nanoTime() - deadline < 0);
+
+				return true;
+			} catch (
+				final Exception exception
+			) {
+				AutoWirer.this.budgetedWiring = null;
+				AutoWirer.this.handleWiringException(exception, this.progress);
+				return false;
+			}
+		}
+
+		/**
+		 * Performs the next unit of work.
+		 *
+		 * @return Whether there is work left
+		 */
+		private boolean advance() throws Exception {
+			switch (this.phase) {
+				case PREPARE -> {
+					AutoWirer.this.adoptBindings(this.plan);
+
+					this.instances = new Object[this.plan.size()];
+					this.externals = new Object[this.plan.externalTypes.length];
+
+					for (
+						int i = 0; i < this.externals.length; i++
+					) this.externals[i] = AutoWirer.this.lookupInstance(this.plan.externalTypes[i]);
+
+					this.nextPhase(INSTANTIATE);
+				}
+
+				case INSTANTIATE -> {
+					if (this.index == this.plan.size()) {
+						this.nextPhase(LISTENERS);
+						break;
+					}
+
+					final int node = this.index++;
+					this.progress.singleton = this.plan.types[node];
+					this.instances[node] = AutoWirer.this.instantiateSingleton(
+						this.plan.types[node],
+						() -> AutoWirer.this.instantiateNode(this.plan, node, this.instances, this.externals)
+					);
+				}
+
+				case LISTENERS -> {
+					if (this.index == AutoWirer.this.existingSingletonsToCallListenersOn.size()) {
+						this.nextPhase(INITIALIZE);
+						break;
+					}
+
+					final Object existingSingleton = AutoWirer.this.existingSingletonsToCallListenersOn.get(this.index++);
+					this.progress.existingSingleton = existingSingleton;
+					AutoWirer.this.callInstantiationListeners(existingSingleton);
+				}
+
+				case INITIALIZE -> {
+					if (this.index == AutoWirer.this.singletonInstances.size()) {
+						this.nextPhase(COMPLETE);
+						break;
+					}
+
+					AutoWirer.this.initializeSingleton(AutoWirer.this.singletonInstances.get(this.index++));
+				}
+
+				default -> {
+					AutoWirer.this.budgetedWiring = null;
+
+					if (
+						this.success != null
+					) this.success.accept(AutoWirer.this);
+
+					if (
+						AutoWirer.this.freezeAfterWire
+					) AutoWirer.this.freeze();
+
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private void nextPhase(final int phase) {
+			this.phase = phase;
+			this.index = 0;
+		}
+	}
+
+	/**
+	 * Wires asynchronously on a virtual thread of its own, which, other than a pool, is never occupied by
+	 * work that parallel wiring or initialization waits for.
+	 *
+	 * @param mainThreadExecutor The executor which runs tasks on the main thread
+	 * @return A future which completes once wiring completed
+	 * @see #wireAsync(Executor, Executor)
+	 */
+	public CompletableFuture<AutoWirer> wireAsync(
+		final @NotNull Executor mainThreadExecutor
+	) {
+		return this.wireAsync(task -> Thread.ofVirtual().name("AutoWirer-Wiring").start(task), mainThreadExecutor);
+	}
+
+	/**
+	 * Wires the dependencies just like {@link #wire(Consumer)}, but on the provided executor, such that the
+	 * calling thread is not blocked. Bindings which are annotated by {@link MainThread} or have been marked
+	 * by {@link #mainThreadOnly(Class[])} are constructed, passed to instantiation listeners and initialized
+	 * on the main thread executor, for example backed by the server's scheduler, while wiring waits for them
+	 * to complete. The main thread must therefore never block on the returned future. The executor is kept,
+	 * such that lazy singletons of these bindings are constructed on the main thread as well, whichever thread
+	 * calls them first. The main thread is recognized by a task which is run on the executor right away, after
+	 * which work of these bindings is done directly if already on the main thread. Parallel wiring and
+	 * initialization are honored. Wiring synchronously on the main thread later on, for example after a
+	 * cleanup, runs this work on the main thread while it waits for the other threads.
+	 *
+	 * @param executor The executor to wire on
+	 * @param mainThreadExecutor The executor which runs tasks on the main thread
+	 * @return A future which completes once wiring completed, or exceptionally with the exception which aborted wiring
+	 * @throws IllegalStateException If a wiring started by {@link #wireBudgeted(TickDriver, Duration, Consumer)} is in progress
+	 */
+	public CompletableFuture<AutoWirer> wireAsync(
+		final @NotNull Executor executor,
+		final @NotNull Executor mainThreadExecutor
+	) {
+		this.ensureNotFrozen();
+		this.ensureNotWiringBudgeted();
+
+		this.mainThreadExecutor = mainThreadExecutor;
+		mainThreadExecutor.execute(() -> this.mainThread = Thread.currentThread());
+
+		final CompletableFuture<AutoWirer> result = new CompletableFuture<>();
+
+		executor.execute(() -> {
+			try {
+				this.executePlan(this.compilePlan(), new WiringProgress());
+
+				if (
+					this.freezeAfterWire
+				) this.freeze();
+
+				result.complete(this);
+			} catch (
+				final Throwable throwable
+			) {
+				result.completeExceptionally(throwable);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Marks bindings whose construction and initialization have to take place on the main thread when
+	 * wiring asynchronously, in addition to all classes annotated by {@link MainThread}.
+	 *
+	 * @param classes The classes to mark
+	 * @return The `AutoWirer` instance with the classes marked
+	 * @see #wireAsync(Executor, Executor)
+	 */
+	public AutoWirer mainThreadOnly(
+			final @NotNull Class<?>... classes
+	) {
+		Collections.addAll(this.mainThreadBindings, classes);
+		return this;
+	}
+
+	/**
+	 * The singleton or existing singleton which has been worked on last while wiring, for error reporting.
+	 */
+	private static final class WiringProgress {
+		private @Nullable Class<?> singleton;
+		private @Nullable Object existingSingleton;
+	}
+
+	/**
+	 * Executes a plan, which adopts its bindings, instantiates all of its nodes and calls listeners on
+	 * existing singletons, after which all singletons are initialized.
+	 *
+	 * @param plan The plan to execute
+	 * @param progress Progress to be updated while wiring
+	 */
+	private void executePlan(
+		final @NotNull WiringPlan plan,
+		final @NotNull WiringProgress progress
+	) throws Exception {
+		final WiringEvents.Wire wireEvent = new WiringEvents.Wire();
+		wireEvent.begin();
+
+		// The main thread cannot run work of main thread only bindings by its executor while wiring itself
+		final boolean onMainThread = this.mainThreadExecutor != null && Thread.currentThread() == this.mainThread;
+
+		if (
+			onMainThread
+		) this.wiringOnMainThread = true;
+
+		try {
+			this.executePlanNodes(plan, progress);
+		} finally {
+			if (onMainThread) {
+				this.wiringOnMainThread = false;
+				this.mainThreadWork.clear();
+			}
+
+			if (wireEvent.shouldCommit()) {
+				wireEvent.bindings = plan.size();
+				wireEvent.commit();
+			}
+		}
+	}
+
+	private void executePlanNodes(
+		final @NotNull WiringPlan plan,
+		final @NotNull WiringProgress progress
+	) throws Exception {
+		this.adoptBindings(plan);
+
+		final Object[] instances = new Object[plan.size()];
+		final Object[] externals = new Object[plan.externalTypes.length];
+
+		for (
+			int i = 0; i < externals.length; i++
+		) externals[i] = this.lookupInstance(plan.externalTypes[i]);
+
+		if (this.wiringExecutor != null)
+			this.instantiateInParallel(plan, instances, externals, this.wiringExecutor);
+
+		else {
+			for (
+				int node = 0; node < plan.size(); node++
+			) {
+				final int current = node;
+				progress.singleton = plan.types[node];
+				instances[node] = this.callOnMainThread(plan.types[node], () -> this.instantiateSingleton(
+					plan.types[current],
+					() -> this.instantiateNode(plan, current, instances, externals)
+				));
+			}
+		}
+
+		for (
+			final Object existingSingleton : this.existingSingletonsToCallListenersOn
+		) {
+			progress.existingSingleton = existingSingleton;
+			this.callOnMainThread(existingSingleton.getClass(), () -> {
+				this.callInstantiationListeners(existingSingleton);
+				return null;
+			});
+		}
+
+		if (this.initializationExecutor != null)
+			this.initializeInParallel(this.initializationExecutor);
+
+		else {
+			for (
+				final SingletonInstance data : this.singletonInstances
+			) this.callOnMainThread(data.instance.getClass(), () -> {
+				this.initializeSingleton(data);
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Whether a class may only be worked on by the main thread, which is never the case without a main thread executor.
+	 */
+	private boolean isMainThreadOnly(
+		final @NotNull Class<?> clazz
+	) {
+		return this.mainThreadExecutor != null && (
+			clazz.isAnnotationPresent(MainThread.class) || this.mainThreadBindings.contains(clazz)
+		);
+	}
+
+	/**
+	 * Calls a task on the main thread executor and waits for its completion, if the class is only to be
+	 * worked on by the main thread and the current thread is not the main thread, and otherwise calls it
+	 * on the current thread. While the main thread wires itself, the task is run by it while it waits.
+	 *
+	 * @param clazz The class the task works on
+	 * @param task The task to call
+	 * @param <T> The type of the result
+	 * @return The result of the task
+	 */
+	private <T> T callOnMainThread(
+		final @NotNull Class<?> clazz,
+		final @NotNull Callable<T> task
+	) throws Exception {
+		if (
+			!this.isMainThreadOnly(clazz) || Thread.currentThread() == this.mainThread
+		) return task.call();
+
+		final CompletableFuture<T> result = new CompletableFuture<>();
+
+		this.mainThreadWorkExecutor().execute(() -> {
+			try {
+				result.complete(task.call());
+			} catch (
+				final Throwable throwable
+			) {
+				result.completeExceptionally(throwable);
+			}
+		});
+
+		try {
+			return result.get();
+		} catch (
+			final ExecutionException exception
+		) {
+			if (exception.getCause() instanceof Exception cause)
+				throw cause;
+
+			throw exception;
+		}
+	}
+
+	/**
+	 * Get the executor which runs work of main thread only bindings, which is the main thread itself
+	 * while it waits on wiring that it started.
+	 */
+	private Executor mainThreadWorkExecutor() {
+		return this.wiringOnMainThread ? this.mainThreadWork::add : Objects.requireNonNull(this.mainThreadExecutor);
+	}
+
+	/**
+	 * Whether the current thread is the main thread, which is wiring.
+	 */
+	private boolean isMainThreadWiring() {
+		return this.wiringOnMainThread && Thread.currentThread() == this.mainThread;
+	}
+
+	/**
+	 * Waits for the completion of a future. If the main thread is wiring, it runs work of main thread only
+	 * bindings while waiting, as this work would otherwise wait on the main thread in turn.
+	 *
+	 * @param future The future to wait for
+	 */
+	private void awaitCompletion(
+		final @NotNull CompletableFuture<?> future
+	) {
+		if (!this.isMainThreadWiring()) {
+			future.join();
+			return;
+		}
+
+		// Wakes up the main thread once done, as there may be no more work to take
+		future.whenComplete((result, throwable) -> this.mainThreadWork.add(() -> {}));
+
+		while (!future.isDone()) {
+			try {
+				this.mainThreadWork.take().run();
+			} catch (
+				final InterruptedException exception
+			) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting on wiring", exception);
+			}
+		}
+
+		future.join();
+	}
+
+	/**
+	 * Executes cleanup operations for all singleton instances, calling their 'cleanup' methods if they implement the 'ICleanable' interface.
+	 * Additionally, performs external cleanup if specified in the 'ConstructorInfo' associated with each instance.
+	 */
+	public void cleanup() {
+		if (this.cleanupExecutor != null) {
+			this.cleanupInParallel(this.cleanupExecutor, this.cleanupDeadline);
+			return;
+		}
+
+		this.executeAndCollectExceptions(executor -> {
+			for (
+					int i = this.singletonInstances.size() - 1; i >= 0; i--
+			) {
+				final SingletonInstance data = this.singletonInstances.remove(i);
+				final Object instance = data.instance;
+
+				if (
+						instance instanceof ICleanable iCleanable
+				) executor.accept(() -> this.cleanupCleanable(iCleanable));
+
+				final ConstructorInfo constructorInfo = data.constructorInfo;
+
+				if (
+						constructorInfo == null ||
+							constructorInfo.externalCleanup == null
+				) continue;
+
+				executor.accept(() -> constructorInfo.externalCleanup.accept(instance));
+			}
+
+			this.clearBindings();
+		});
+	}
+
+	/**
+	 * Re-creates the singleton which is assignable to the specified class, as well as all singletons which
+	 * transitively depend on it, while all other singletons are kept. The affected singletons are cleaned
+	 * up in reverse order first and then re-created by their bindings in order, after which listeners and
+	 * initializers are called on them. Only dependencies passed to constructors are tracked, thus instances
+	 * which have been looked up otherwise are not updated. If a singleton cannot be re-created, all of its
+	 * dependents are left out as well. Concurrent callers of {@link #getOrInstantiateClass(Class, boolean)}
+	 * wait for the affected singletons to be re-created, rather than creating them on their own. Singletons
+	 * which may only be worked on by the main thread are re-created and initialized on it, just like when
+	 * wiring by {@link #wireAsync(Executor, Executor)}.
+	 *
+	 * @param clazz The class of the singleton to re-create
+	 * @return The `AutoWirer` instance with the singleton and its dependents re-created
+	 * @throws IllegalStateException If a wiring started by {@link #wireBudgeted(TickDriver, Duration, Consumer)} is in progress
+	 */
+	public AutoWirer rewire(
+			final @NotNull Class<?> clazz
+	) {
+		return this.rebuild(clazz, null);
+	}
+
+	/**
+	 * Replaces the singleton which is assignable to the specified class by another instance, and re-creates
+	 * all singletons which transitively depend on it, just like {@link #rewire(Class)}. The replacement has
+	 * no external cleanup, while the replaced singleton is cleaned up as usual.
+	 *
+	 * @param clazz The class of the singleton to replace
+	 * @param replacement The instance to replace the singleton with
+	 * @param <T> The type of the class
+	 * @return The `AutoWirer` instance with the singleton replaced and its dependents re-created
+	 * @throws IllegalStateException If a wiring started by {@link #wireBudgeted(TickDriver, Duration, Consumer)} is in progress
+	 */
+	public <T> AutoWirer replaceSingleton(
+			final @NotNull Class<T> clazz,
+			final @NotNull T replacement
+	) {
+		return this.rebuild(clazz, replacement);
+	}
+
+	private synchronized AutoWirer rebuild(
+		final @NotNull Class<?> clazz,
+		final @Nullable Object replacement
+	) {
+		this.ensureNotFrozen();
+		this.ensureNotWiringBudgeted();
+
+		final Object target = this.lookupInstance(clazz);
+		final SingletonInstance[] instances;
+
+		synchronized (this.singletonInstances) {
+			instances = this.singletonInstances.toArray(new SingletonInstance[0]);
+		}
+
+		int index = -1;
+
+		for (
+			int i = 0; i < instances.length; i++
+		) {
+			if (
+				target != null && target != this && instances[i].instance == target
+			) index = i;
+		}
+
+		final int targetIndex = index;
+
+		if (
+			targetIndex < 0
+		) throw new IllegalArgumentException("There is no singleton of " + clazz + " within this AutoWirer to re-create");
+
+		if (
+			replacement == null && instances[targetIndex].constructorInfo == null
+		) throw new IllegalArgumentException("The singleton of " + clazz + " has been added as an existing singleton and can only be replaced");
+
+		// Instances are registered after their dependencies, thus a single pass finds all transitive dependents
+		final int[][] dependencies = this.resolveInstanceDependencies(instances);
+		final boolean[] affected = new boolean[instances.length];
+		affected[targetIndex] = true;
+
+		for (
+			int i = targetIndex + 1; i < instances.length; i++
+		) {
+			for (
+				final int dependency : dependencies[i]
+			) affected[i] |= affected[dependency];
+		}
+
+		final Map<ConstructorInfo, Class<?>> bindingByConstructor = new IdentityHashMap<>();
+
+		for (
+			final Map.Entry<Class<?>, ConstructorInfo> binding : this.singletonConstructors.entrySet()
+		) bindingByConstructor.put(binding.getValue(), binding.getKey());
+
+		// Dependents come first, just like when instantiating them, which keeps the order of locks consistent
+		final List<Class<?>> bindings = new ArrayList<>();
+
+		for (
+			int i = instances.length - 1; i >= targetIndex; i--
+		) {
+			final Class<?> binding = affected[i] ? bindingOf(instances[i], bindingByConstructor) : null;
+
+			if (
+				binding != null
+			) bindings.add(binding);
+		}
+
+		this.guardInstantiations(bindings, () -> {
+			this.rebuildAffected(instances, dependencies, affected, targetIndex, replacement);
+			return null;
+		});
+
+		return this;
+	}
+
+	/**
+	 * Runs a task while instantiations of all given bindings are guarded against concurrent callers, just
+	 * like {@link #instantiateSingleton(Class, Supplier)} guards the instantiation of a single binding.
+	 * The guards are acquired one after the other and all held until the task completed, thus subclasses
+	 * which guard instantiations have to override both methods.
+	 *
+	 * @param bindings The bindings to guard, in order of acquisition
+	 * @param task The task to run once all bindings are guarded
+	 * @return The result of the task
+	 */
+	protected @Nullable Object guardInstantiations(
+		final @NotNull List<Class<?>> bindings,
+		final @NotNull Supplier<@Nullable Object> task
+	) {
+		if (
+			!this.wiringInParallel
+		) return task.get();
+
+		final List<ReentrantLock> locks = new ArrayList<>(bindings.size());
+
+		try {
+			for (
+				final Class<?> binding : bindings
+			) {
+				final ReentrantLock lock = this.parallelWiringLocks.computeIfAbsent(binding, key -> new ReentrantLock());
+				lock.lock();
+				locks.add(lock);
+			}
+
+			return task.get();
+		} finally {
+			for (
+				int i = locks.size() - 1; i >= 0; i--
+			) locks.get(i).unlock();
+		}
+	}
+
+	/**
+	 * Get the binding a singleton has been created by, or null if it has been added as an existing singleton.
+	 *
+	 * @param data The singleton to get the binding of
+	 * @param bindingByConstructor The bindings of all singletons by their constructor info
+	 */
+	private static @Nullable Class<?> bindingOf(
+		final @NotNull SingletonInstance data,
+		final @NotNull Map<ConstructorInfo, Class<?>> bindingByConstructor
+	) {
+		if (
+			data.constructorInfo == null
+		) return null;
+
+		final Class<?> type = bindingTypeOf(data.instance);
+
+		if (
+			type != data.instance.getClass()
+		) return type;
+
+		return bindingByConstructor.get(data.constructorInfo);
+	}
+
+	/**
+	 * Cleans up all affected singletons, removes them and re-creates them in order of registration, after
+	 * which all singletons which have been registered in the meantime are initialized.
+	 *
+	 * @param instances Registered singletons before re-creating
+	 * @param dependencies Per singleton, the indices of the singletons it has been constructed with
+	 * @param affected Whether the singleton is to be re-created
+	 * @param targetIndex Index of the singleton which the re-creation has been requested for
+	 * @param replacement The instance to replace the target by, or null to re-create it by its binding
+	 */
+	private void rebuildAffected(
+		final SingletonInstance @NotNull [] instances,
+		final int[] @NotNull [] dependencies,
+		final boolean @NotNull [] affected,
+		final int targetIndex,
+		final @Nullable Object replacement
+	) {
+		this.executeAndCollectExceptions(executor -> {
+			for (
+				int i = instances.length - 1; i >= targetIndex; i--
+			) {
+				final SingletonInstance data = instances[i];
+
+				if (
+					affected[i]
+				) executor.accept(() -> this.cleanupInstance(data));
+			}
+		});
+
+		final int registeredBefore;
+
+		synchronized (this.singletonInstances) {
+			for (
+				int i = targetIndex; i < instances.length; i++
+			) {
+				if (!affected[i])
+					continue;
+
+				this.singletonInstances.remove(instances[i]);
+				this.instanceIndex.remove(instances[i].instance.getClass(), instances[i].instance);
+			}
+
+			registeredBefore = this.singletonInstances.size();
+		}
+
+		// Cached arguments may refer to the removed instances
+		this.prototypeFactories.clear();
+		this.listenerArguments.clear();
+
+		final boolean[] failed = new boolean[instances.length];
+		final StringJoiner skipped = new StringJoiner(", ");
+
+		for (
+			int i = targetIndex; i < instances.length; i++
+		) {
+			if (!affected[i])
+				continue;
+
+			for (
+				final int dependency : dependencies[i]
+			) failed[i] |= failed[dependency];
+
+			// Dependents of a failed singleton would only create it anew, without it being initialized
+			if (failed[i]) {
+				skipped.add(instances[i].instance.getClass().getName());
+				continue;
+			}
+
+			Object instance = null;
+
+			try {
+				instance = i == targetIndex && replacement != null
+					? this.registerReplacement(replacement)
+					: this.recreateInstance(instances[i]);
+			} catch (
+				final Exception exception
+			) {
+				this.logger.log(Level.SEVERE, "Could not re-create " + instances[i].instance.getClass(), exception);
+			}
+
+			failed[i] = instance == null;
+		}
+
+		if (
+			skipped.length() > 0
+		) this.logger.severe("Could not re-create all singletons, skipped dependents of failed singletons: " + skipped);
+
+		final SingletonInstance[] registered;
+
+		// Includes dependencies which have been created on demand while re-creating
+		synchronized (this.singletonInstances) {
+			registered = this.singletonInstances
+				.subList(registeredBefore, this.singletonInstances.size())
+				.toArray(new SingletonInstance[0]);
+		}
+
+		this.executeAndCollectExceptions(executor -> {
+			for (
+				final SingletonInstance data : registered
+			) executor.accept(() -> this.callOnMainThread(data.instance.getClass(), () -> {
+				this.initializeSingleton(data);
+				return null;
+			}));
+		});
+	}
+
+	private Object registerReplacement(
+		final @NotNull Object replacement
+	) {
+		this.registerSingleton(replacement, null, SingletonInstance.NO_DEPENDENCIES, 0);
+		return replacement;
+	}
+
+	/**
+	 * Re-creates a singleton by the constructor it has been created with, resolving its dependencies anew.
+	 * Lazy singletons are re-created as lazy singletons of their bound class.
+	 *
+	 * @param data The removed singleton to re-create
+	 * @return The registered instance, or null if construction failed
+	 * @throws Exception If waiting on the main thread to construct the singleton failed
+	 */
+	private @Nullable Object recreateInstance(
+		final @NotNull SingletonInstance data
+	) throws Exception {
+		Class<?> type = data.instance.getClass();
+		ConstructorInfo constructorInfo = Objects.requireNonNull(data.constructorInfo);
+		final boolean lazy = (
+			Proxy.isProxyClass(type) &&
+				Proxy.getInvocationHandler(data.instance) instanceof LazySingleton
+		);
+
+		if (lazy) {
+			type = ((LazySingleton) Proxy.getInvocationHandler(data.instance)).getType();
+			constructorInfo = this.singletonConstructors.get(type);
+			this.lazyProxies.remove(type);
+		}
+
+		final Object[] argumentValues = new Object[constructorInfo.parameters.length];
+
+		for (
+			int i = 0; i < argumentValues.length; i++
+		) argumentValues[i] = this.unwrapArgument(this.getOrInstantiateClass(constructorInfo.parameters[i], type, true));
+
+		if (lazy) {
+			final Object proxy = this.createLazySingleton(type, constructorInfo, argumentValues);
+
+			if (
+				proxy != null
+			) return proxy;
+		}
+
+		final Class<?> binding = type;
+		final ConstructorInfo bindingConstructor = constructorInfo;
+
+		return this.callOnMainThread(binding, () -> this.createSingleton(binding, null, bindingConstructor, argumentValues));
+	}
+
+	/**
+	 * Cleans up all instances on the provided executor in reverse dependency order, where each instance
+	 * is only cleaned up once all of its dependents have been. Collected exceptions are logged.
+	 *
+	 * @param executor The executor to call cleanups on
+	 * @param deadline Maximum duration to wait for all cleanups to complete, waits indefinitely if null
+	 */
+	private void cleanupInParallel(
+		final @NotNull Executor executor,
+		final @Nullable Duration deadline
+	) {
+		final SingletonInstance[] instances = this.singletonInstances.toArray(new SingletonInstance[0]);
+		final int[][] dependents = DependencyScheduler.invert(this.resolveCleanupDependencies(instances));
+
+		List<Exception> thrownExceptions;
+
+		try {
+			thrownExceptions = new DependencyScheduler(dependents).run(
+				node -> this.cleanupInstance(instances[node]),
+				executor,
+				null,
+				deadline
+			);
+		} catch (
+			final InterruptedException exception
+		) {
+			Thread.currentThread().interrupt();
+			thrownExceptions = List.of(exception);
+		}
+
+		this.singletonInstances.clear();
+		this.clearBindings();
+
+		final Exception exception = this.aggregateExceptions(thrownExceptions);
+
+		if (
+			exception != null
+		) this.logger.log(Level.SEVERE, "Exception: ", exception);
+	}
+
+	/**
+	 * Clears all bindings and the instance index, after all instances have been cleaned up.
+	 */
+	private void clearBindings() {
+		synchronized (this) {
+			this.singletonConstructors.clear();
+			this.bindingOrder.clear();
+		}
+
+		this.bindingIndex.clear();
+		this.instanceIndex.clear();
+		this.lazyBindings.clear();
+		this.lazyProxies.clear();
+		this.prototypeConstructors.clear();
+		this.prototypeFactories.clear();
+		this.listenerArguments.clear();
+		this.listenerDispatch.clear();
+		this.compiledPlan = null;
+		this.frozenInstances = null;
+	}
+
+	/**
+	 * Calls the cleanup method of an instance, if it implements `ICleanable`, as well as its external
+	 * cleanup, if any. Both are called even if the former throws.
+	 *
+	 * @param data The instance to clean up
+	 */
+	private void cleanupInstance(
+		final @NotNull SingletonInstance data
+	) throws Exception {
+		Exception thrownException = null;
+
+		if (data.instance instanceof ICleanable iCleanable) {
+			try {
+				this.cleanupCleanable(iCleanable);
+			} catch (
+				final Exception exception
+			) {
+				thrownException = exception;
+			}
+		}
+
+		if (
+			data.constructorInfo != null &&
+				data.constructorInfo.externalCleanup != null
+		) {
+			try {
+				data.constructorInfo.externalCleanup.accept(data.instance);
+			} catch (
+				final Exception exception
+			) {
+				if (thrownException == null)
+					thrownException = exception;
+				else
+					thrownException.addSuppressed(exception);
+			}
+		}
+
+		if (
+			thrownException != null
+		) throw thrownException;
+	}
+
+	/**
+	 * Initializes all instances on the provided executor, in dependency order, and throws
+	 * the collected exceptions after all initializers completed.
+	 *
+	 * @param executor The executor to call initializers on
+	 */
+	private void initializeInParallel(
+		final @NotNull Executor executor
+	) throws Exception {
+		final SingletonInstance[] instances = this.singletonInstances.toArray(new SingletonInstance[0]);
+		final DependencyScheduler scheduler = new DependencyScheduler(this.resolveInstanceDependencies(instances));
+
+		final Callable<List<Exception>> initialization = () -> scheduler.run(
+			node -> this.callOnMainThread(instances[node].instance.getClass(), () -> {
+				this.initializeSingleton(instances[node]);
+				return null;
+			}),
+			executor,
+			node -> new IllegalStateException(
+				"Skipped initializing " + instances[node].instance.getClass() + " as one of its dependencies failed"
+			),
+			null
+		);
+
+		final List<Exception> exceptions;
+
+		if (this.isMainThreadWiring()) {
+			final CompletableFuture<List<Exception>> run = new CompletableFuture<>();
+
+			// The scheduler waits on a thread of its own, as the main thread has to run initializers meanwhile
+			Thread.ofVirtual().name("AutoWirer-Initialization").start(() -> {
+				try {
+					run.complete(initialization.call());
+				} catch (
+					final Throwable throwable
+				) {
+					run.completeExceptionally(throwable);
+				}
+			});
+
+			this.awaitCompletion(run);
+			exceptions = run.join();
+		}
+
+		else
+			exceptions = initialization.call();
+
+		final Exception exception = this.aggregateExceptions(exceptions);
+
+		if (
+			exception != null
+		) throw exception;
+	}
+
+	/**
+	 * Resolves the recorded dependencies of all instances to their indices within the provided array.
+	 *
+	 * @param instances Registered singleton instances
+	 * @return Per instance, the indices of the instances it has been constructed with
+	 */
+	private int[][] resolveInstanceDependencies(
+		final SingletonInstance @NotNull [] instances
+	) {
+		final Map<Object, Integer> indexByInstance = new IdentityHashMap<>();
+
+		for (
+			int i = 0; i < instances.length; i++
+		) indexByInstance.put(instances[i].instance, i);
+
+		final int[][] dependencies = new int[instances.length][];
+
+		for (
+			int i = 0; i < instances.length; i++
+		) {
+			dependencies[i] = Arrays.stream(instances[i].dependencies)
+				.map(indexByInstance::get)
+				.filter(Objects::nonNull)
+				.mapToInt(Integer::intValue)
+				.toArray();
+		}
+
+		return dependencies;
+	}
+
+	/**
+	 * Resolves the dependencies of all instances which have to be cleaned up after them, which are the
+	 * recorded constructor arguments, the dependencies of all instantiation listeners which applied to
+	 * an instance, as well as all existing singletons registered before it, as their dependents are
+	 * unknown. Only instances registered before an instance are taken into account, just like when
+	 * cleaning up in reverse order of registration.
+	 *
+	 * @param instances Registered singleton instances
+	 * @return Per instance, the indices of the instances which are to be cleaned up after it
+	 */
+	private int[][] resolveCleanupDependencies(
+		final SingletonInstance @NotNull [] instances
+	) {
+		final int[][] constructorDependencies = this.resolveInstanceDependencies(instances);
+		final Map<Object, Integer> indexByInstance = new IdentityHashMap<>();
+
+		for (
+			int i = 0; i < instances.length; i++
+		) indexByInstance.put(instances[i].instance, i);
+
+		final List<Integer> existingSingletons = new ArrayList<>();
+		final int[][] dependencies = new int[instances.length][];
+
+		for (
+			int i = 0; i < instances.length; i++
+		) {
+			final Set<Integer> instanceDependencies = new LinkedHashSet<>(existingSingletons);
+
+			for (
+				final int dependency : constructorDependencies[i]
+			) instanceDependencies.add(dependency);
+
+			for (
+				final InstantiationListener listener : this.listenersOf(bindingTypeOf(instances[i].instance))
+			) {
+				final Object[] arguments = this.listenerArguments.get(listener);
+
+				for (
+					int j = 0; j < listener.dependencies.length; j++
+				) {
+					final Object argument = arguments != null ? arguments[j] : this.lookupInstance(listener.dependencies[j]);
+					final Integer index = argument == null ? null : indexByInstance.get(argument);
+
+					if (
+						index != null && index < i
+					) instanceDependencies.add(index);
+				}
+			}
+
+			dependencies[i] = instanceDependencies.stream().mapToInt(Integer::intValue).toArray();
+
+			if (
+				instances[i].constructorInfo == null && instances[i].instance != this
+			) existingSingletons.add(i);
+		}
+
+		return dependencies;
+	}
+
+	/**
+	 * Get the class an instance has been bound by, which is the bound class itself for proxies of lazy singletons.
+	 */
+	private static Class<?> bindingTypeOf(final @NotNull Object instance) {
+		if (
+			Proxy.isProxyClass(instance.getClass()) &&
+				Proxy.getInvocationHandler(instance) instanceof LazySingleton lazySingleton
+		) return lazySingleton.getType();
+
+		return instance.getClass();
+	}
+
+	/**
+	 * Compiles all registered bindings into a plan, resolving every constructor parameter to either the
+	 * binding which provides it or to a lookup of an existing instance, and sorting the bindings such that
+	 * dependencies always come first. The plan is kept until bindings or existing singletons are added.
+	 *
+	 * @return The compiled plan
+	 */
+	public synchronized WiringPlan compilePlan() {
+		if (
+			this.compiledPlan == null
+		) this.compiledPlan = this.buildPlan();
+
+		return this.compiledPlan;
+	}
+
+	private WiringPlan buildPlan() {
+		final Class<?>[] types = this.bindingOrder.toArray(new Class<?>[0]);
+		final ConstructorInfo[] constructorInfos = new ConstructorInfo[types.length];
+		final boolean[] lazy = new boolean[types.length];
+
+		for (
+			int node = 0; node < types.length; node++
+		) {
+			constructorInfos[node] = this.singletonConstructors.get(types[node]);
+			lazy[node] = this.lazyBindings.contains(types[node]);
+		}
+
+		return this.resolvePlan(types, constructorInfos, lazy);
+	}
+
+	/**
+	 * Resolves the constructor parameters of all bindings and compiles them into a plan.
+	 *
+	 * @param types Bound types in registration order
+	 * @param constructorInfos Constructor info per bound type
+	 * @param lazy Whether the bound type is a lazy singleton
+	 * @return The compiled plan
+	 */
+	private WiringPlan resolvePlan(
+		final Class<?> @NotNull [] types,
+		final ConstructorInfo @NotNull [] constructorInfos,
+		final boolean @NotNull [] lazy
+	) {
+		final int[][] parameterNodes = new int[types.length][];
+		final Map<Class<?>, Integer> nodeByType = new HashMap<>();
+		final Map<Class<?>, Integer> externalSlots = new LinkedHashMap<>();
+
+		for (
+			int node = 0; node < types.length; node++
+		) nodeByType.put(types[node], node);
+
+		for (
+			int node = 0; node < types.length; node++
+		) {
+			final Class<?>[] parameters = constructorInfos[node].parameters;
+			parameterNodes[node] = new int[parameters.length];
+
+			for (
+				int i = 0; i < parameters.length; i++
+			) {
+				Class<?> binding = this.lookupInstance(parameters[i]) == null ? this.findBinding(parameters[i]) : null;
+
+				if (
+					binding != null && lazy[nodeByType.get(binding)] &&
+						!parameters[i].isInterface() && this.proxyInterfacesOf(binding).length > 0
+				) {
+					this.logger.severe(
+						"Lazy singleton " + binding + " can only be injected by one of its interfaces, not as " + parameters[i]
+					);
+					binding = null;
+				}
+
+				parameterNodes[node][i] = binding != null
+					? nodeByType.get(binding)
+					: ~externalSlots.computeIfAbsent(parameters[i], key -> externalSlots.size());
+			}
+		}
+
+		return WiringPlan.compile(
+			types,
+			constructorInfos,
+			lazy,
+			parameterNodes,
+			externalSlots.keySet().toArray(new Class<?>[0]),
+			this.logger
+		);
+	}
+
+	/**
+	 * Registers all bindings of a plan which are not yet known to this `AutoWirer`.
+	 *
+	 * @param plan The plan to adopt bindings from
+	 */
+	private void adoptBindings(
+		final @NotNull WiringPlan plan
+	) {
+		for (
+			int node = 0; node < plan.size(); node++
+		) {
+			this.registerBinding(plan.types[node], plan.constructorInfos[node]);
+
+			if (
+				plan.lazy[node]
+			) this.lazyBindings.add(plan.types[node]);
+		}
+	}
+
+	/**
+	 * Instantiates a single node of a plan, unless there already is an instance of its type, and calls
+	 * instantiation listeners as well as registers the instance.
+	 *
+	 * @param plan The plan which is executed
+	 * @param node The node to instantiate
+	 * @param instances Instances of all nodes which have been executed so far
+	 * @param externals Instances of all external slots of the plan
+	 * @return The instance of the node, or null if it could not be created
+	 */
+	private @Nullable Object instantiateNode(
+		final @NotNull WiringPlan plan,
+		final int node,
+		final Object @NotNull [] instances,
+		final Object @NotNull [] externals
+	) {
+		// The proxy of a lazy singleton is not an instance of the bound class, so look it up by its binding
+		final Object existingProxy = plan.lazy[node] ? this.lazyProxies.get(plan.types[node]) : null;
+		final Object existing = existingProxy != null ? existingProxy : this.lookupInstance(plan.types[node]);
+
+		if (
+			existing != null
+		) return existing;
+
+		final Object[] argumentValues = this.resolveArguments(plan, node, instances, externals);
+
+		if (plan.lazy[node]) {
+			final Object proxy = this.createLazySingleton(plan.types[node], plan.constructorInfos[node], argumentValues);
+
+			if (
+				proxy != null
+			) return proxy;
+		}
+
+		return this.createSingleton(plan.types[node], plan.parentTypeOf(node), plan.constructorInfos[node], argumentValues);
+	}
+
+	/**
+	 * Constructs a singleton, calls instantiation listeners on it and registers it, recording the
+	 * durations of construction and listeners for this very singleton if metrics are enabled.
+	 *
+	 * @param clazz The class to be constructed
+	 * @param parentClazz The parent class (if any) that triggered the instantiation
+	 * @param constructorInfo The constructor info of the class
+	 * @param argumentValues The resolved constructor arguments
+	 * @return The new instance, or null if construction failed
+	 */
+	private @Nullable Object createSingleton(
+		final @NotNull Class<?> clazz,
+		final @Nullable Class<?> parentClazz,
+		final @NotNull ConstructorInfo constructorInfo,
+		final Object @NotNull [] argumentValues
+	) {
+		final long start = this.metrics == null ? 0 : System.nanoTime();
+		final Object instance = this.invokeConstructor(clazz, parentClazz, constructorInfo, argumentValues);
+
+		if (
+			instance == null
+		) return null;
+
+		this.registerSingleton(instance, constructorInfo, argumentValues, this.metrics == null ? 0 : System.nanoTime() - start);
+		return instance;
+	}
+
+	/**
+	 * Calls instantiation listeners on a constructed singleton and registers it, recording the duration
+	 * of its construction and of its listeners for this very singleton if metrics are enabled.
+	 *
+	 * @param instance The constructed singleton
+	 * @param constructorInfo The constructor info the instance has been created by, if any
+	 * @param argumentValues The arguments the instance has been constructed with
+	 * @param constructionNanos The duration of the construction
+	 */
+	private void registerSingleton(
+		final @NotNull Object instance,
+		final @Nullable ConstructorInfo constructorInfo,
+		final Object @NotNull [] argumentValues,
+		final long constructionNanos
+	) {
+		final long start = this.metrics == null ? 0 : System.nanoTime();
+		this.callInstantiationListeners(instance);
+		final long listenerNanos = this.metrics == null ? 0 : System.nanoTime() - start;
+
+		final SingletonInstance data = this.registerInstance(instance, constructorInfo, argumentValues);
+		data.constructionNanos = constructionNanos;
+		data.listenerNanos = listenerNanos;
+	}
+
+	/**
+	 * Creates a singleton of the given binding by invoking the provided instantiation, which
+	 * returns the already existing instance if there is one. Every creation of a singleton passes
+	 * through here, which allows subclasses to guard instantiation against concurrent callers.
+	 * While wiring in parallel, instantiation is guarded by a lock per binding, as instantiation
+	 * listeners may request bindings which are just being instantiated on another thread.
+	 *
+	 * @param binding The binding which is to be instantiated
+	 * @param instantiation Instantiation routine of the binding
+	 * @return The result of the instantiation
+	 */
+	protected @Nullable Object instantiateSingleton(
+		final @NotNull Class<?> binding,
+		final @NotNull Supplier<@Nullable Object> instantiation
+	) {
+		if (
+			!this.wiringInParallel
+		) return instantiation.get();
+
+		final ReentrantLock lock = this.parallelWiringLocks.computeIfAbsent(binding, key -> new ReentrantLock());
+		lock.lock();
+
+		try {
+			return instantiation.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Instantiates all nodes of a plan level by level, where the nodes of a level are instantiated
+	 * concurrently. Each node is instantiated just like when wiring sequentially, thus passes through
+	 * {@link #instantiateSingleton(Class, Supplier)} and is registered as soon as it has been created.
+	 *
+	 * @param plan The plan which is executed
+	 * @param instances Instances per node, to be filled
+	 * @param externals Instances of all external slots of the plan
+	 * @param executor The executor to instantiate nodes on
+	 */
+	private void instantiateInParallel(
+		final @NotNull WiringPlan plan,
+		final Object @NotNull [] instances,
+		final Object @NotNull [] externals,
+		final @NotNull Executor executor
+	) {
+		this.wiringInParallel = true;
+
+		try {
+			for (
+				final int[] level : plan.levels
+			) {
+				final CompletableFuture<?>[] instantiations = new CompletableFuture<?>[level.length];
+
+				for (
+					int i = 0; i < level.length; i++
+				) {
+					final int node = level[i];
+
+					instantiations[i] = CompletableFuture.runAsync(() -> instances[node] = this.instantiateSingleton(
+						plan.types[node],
+						() -> this.instantiateNode(plan, node, instances, externals)
+					), this.isMainThreadOnly(plan.types[node]) ? this.mainThreadWorkExecutor() : executor);
+				}
+
+				this.awaitCompletion(CompletableFuture.allOf(instantiations));
+			}
+		} finally {
+			this.wiringInParallel = false;
+			this.parallelWiringLocks.clear();
+		}
+	}
+
+	/**
+	 * Resolves the constructor arguments of a node from the instances of previous nodes and external slots.
+	 */
+	private Object[] resolveArguments(
+		final @NotNull WiringPlan plan,
+		final int node,
+		final Object @NotNull [] instances,
+		final Object @NotNull [] externals
+	) {
+		final int[] nodeArguments = plan.arguments[node];
+		final Object[] argumentValues = new Object[nodeArguments.length];
+
+		for (
+			int i = 0; i < argumentValues.length; i++
+		) {
+			final int argument = nodeArguments[i];
+			argumentValues[i] = this.unwrapArgument(argument >= 0 ? instances[argument] : externals[~argument]);
+		}
+
+		return argumentValues;
+	}
+
+	@Override
+	public int getInstancesCount() {
+		return this.singletonInstances.size();
+	}
+
+	/**
+	 * Provides a consumer for unsafe runnables, which are immediately executed within
+	 * a try-catch block. Thrown exceptions are collected and thrown at the end.
+	 */
+	private void executeAndCollectExceptions(
+			final Consumer<Consumer<FUnsafeRunnable<Exception>>> executor
+	) {
+		final List<Exception> thrownExceptions = new ArrayList<>();
+		executor.accept(task -> {
+			try {
+				task.run();
+			} catch (
+					final Exception exception
+			) {
+				thrownExceptions.add(exception);
+			}
+		});
+
+    final Exception exception = this.aggregateExceptions(thrownExceptions);
+
+    if (
+			exception == null
+	) return;
+
+    this.logger.log(Level.SEVERE, "Exception: ", exception);
+  }
+
+	/**
+	 * Bundles multiple exceptions into one, wrapping the first thrown exception
+	 * and adding the remaining as suppressed.
+	 *
+	 * @param thrownExceptions Exceptions in order of occurrence
+	 * @return The bundled exception, or null if there were no exceptions
+	 */
+	private @Nullable Exception aggregateExceptions(
+			final List<Exception> thrownExceptions
+	) {
+    if (
+			thrownExceptions.isEmpty()
+	) return null;
+
+    final Exception exception = new Exception(thrownExceptions.getFirst());
+
+    for (
+			int i = 1; i < thrownExceptions.size(); i++
+	) exception.addSuppressed(thrownExceptions.get(i));
+
+    return exception;
+  }
+
+	/**
+	 * Finds the registered binding which satisfies a given class. A binding registered for exactly
+	 * that class always wins, otherwise the binding index is probed for all bindings assignable
+	 * to the class. If multiple bindings qualify, they are reported in order of registration.
+	 *
+	 * @param clazz The class for which to find the binding
+	 * @return The key of the binding within singletonConstructors, or null if there is none or multiple
+	 */
+	private @Nullable Class<?> findBinding(
+		final @NotNull Class<?> clazz
+	) {
+		if (
+			this.singletonConstructors.containsKey(clazz)
+		) return clazz;
+
+		final TypeIndex.Bucket<Class<?>> candidates = this.bindingIndex.get(clazz);
+
+		if (candidates == null) {
+			this.logger.severe(
+				"Unknown dependency of " + clazz + "."
+			);
+			return null;
+		}
+
+		if (candidates.size() > 1) {
+			final StringJoiner candidateNames = new StringJoiner(", ");
+
+			for (
+				int i = 0; i < candidates.size(); i++
+			) candidateNames.add(candidates.get(i).getName());
+
+			this.logger.severe(
+				"Found multiple possible bindings of " + clazz + " (" + candidateNames + ")"
+			);
+			return null;
+		}
+
+		return candidates.get(0);
+	}
+
+	/**
+	 * Registers a binding for the specified class, if there has not yet been one, and adds it to
+	 * the binding index under all of its supertypes.
+	 *
+	 * @param clazz The class to register the binding for
+	 * @param constructorInfo Information on how to construct the class
+	 */
+	private synchronized void registerBinding(
+		final @NotNull Class<?> clazz,
+		final @NotNull ConstructorInfo constructorInfo
+	) {
+		if (
+			this.singletonConstructors.putIfAbsent(clazz, constructorInfo) != null
+		) return;
+
+		this.bindingOrder.add(clazz);
+		this.bindingIndex.add(clazz, clazz);
+		this.compiledPlan = null;
+	}
+
+
+	/**
+	 * Finds an instance of the specified class if it exists within the singleton instances.
+	 * If multiple instances are found, logs a severe message and returns an empty Optional.
+	 * If no instance is found, returns an empty Optional.
+	 *
+	 * @param clazz The class to find an instance of
+	 * @param <T>   The type of the class
+	 * @return An Optional containing the found instance if present, otherwise an empty Optional
+	 */
+    @Override
+    public <T> @NotNull Optional<T> findInstance(Class<T> clazz) {
+        Object instance = this.lookupInstance(clazz);
+
+        if (this.metrics != null && instance != null) {
+            this.metrics.of(instance.getClass()).recordLookup();
+        }
+
+        return Optional.ofNullable(clazz.cast(instance));
+    }
+
+	/**
+	 * Looks up the only singleton instance which is assignable to the specified class by
+	 * probing the instance index, without any allocations on the happy path. If there is
+	 * neither such an instance nor a binding which is yet to be instantiated, the lookup
+	 * is delegated to the parent container, if any.
+	 *
+	 * @param clazz The class to find an instance of
+	 * @return The found instance, or null if there is none or multiple possible instances
+	 */
+	private @Nullable Object lookupInstance(final @NotNull Class<?> clazz) {
+		final Map<Class<?>, Object> frozen = this.frozenInstances;
+
+		if (frozen != null) {
+			final Object instance = frozen.get(clazz);
+
+			if (instance instanceof AmbiguousInstances ambiguous) {
+				logger.severe("Found multiple possible instances of clazz " + clazz + " (" + ambiguous.second + ", " + ambiguous.first + ")");
+				return null;
+			}
+
+			if (
+				instance != null
+			) return instance;
+		}
+
+		else {
+			final TypeIndex.Bucket<Object> candidates = this.instanceIndex.get(clazz);
+
+			if (candidates != null) {
+				if (candidates.size() > 1) {
+					logger.severe("Found multiple possible instances of clazz " + clazz + " (" + candidates.get(1).getClass() + ", " + candidates.get(0).getClass() + ")");
+					return null;
+				}
+
+				return candidates.get(0);
+			}
+		}
+
+		if (
+			this.parent == null || this.hasBinding(clazz)
+		) return null;
+
+		return this.parent.lookupInstance(clazz);
+	}
+
+	/**
+	 * Whether there is at least one local binding which is assignable to the specified class.
+	 */
+	private boolean hasBinding(final @NotNull Class<?> clazz) {
+		return this.singletonConstructors.containsKey(clazz) || this.bindingIndex.get(clazz) != null;
+	}
+
+	/**
+	 * Marks a type within the frozen snapshot which multiple instances are assignable to.
+	 */
+	private record AmbiguousInstances(Class<?> first, Class<?> second) {}
+
+	/**
+	 * Registers a singleton instance, making it available to dependents and lookups.
+	 *
+	 * @param instance The instance to register
+	 * @param constructorInfo The constructor info the instance has been created by, if any
+	 * @param dependencies The arguments the instance has been constructed with
+	 * @return The registered singleton
+	 */
+	private SingletonInstance registerInstance(
+		final @NotNull Object instance,
+		final @Nullable ConstructorInfo constructorInfo,
+		final Object @NotNull [] dependencies
+	) {
+		this.ensureNotFrozen();
+
+		final SingletonInstance data = new SingletonInstance(instance, constructorInfo, dependencies);
+
+		synchronized (this.singletonInstances) {
+			this.singletonInstances.add(data);
+			this.instanceIndex.add(instance.getClass(), instance);
+		}
+
+		return data;
+	}
+
+	/**
+	 * Get the listeners applicable to a concrete class in order of their registration, which are
+	 * resolved once per class. The dispatch table is owned by this container and emptied whenever
+	 * a listener is added or the bindings are cleared, thus never outlives the classes it refers to.
+	 *
+	 * @param type The concrete class of an instance
+	 * @return The applicable listeners
+	 */
+	private InstantiationListener[] listenersOf(
+		final @NotNull Class<?> type
+	) {
+		return this.listenerDispatch.computeIfAbsent(type, key -> Arrays.stream(this.registeredListeners)
+			.filter(listener -> listener.type.isAssignableFrom(key))
+			.toArray(InstantiationListener[]::new));
+	}
+
+	/**
+	 * Calls the instantiation listeners for the given instance.
+	 * <p>
+	 * Looks up the listeners which apply to the class of the instance within the dispatch
+	 * table and executes each listener's action.
+	 *
+	 * @param instance the object instance for which the listeners are called
+	 */
+    void callInstantiationListeners(final @NotNull Object instance) {
+        InstantiationListener[] listeners = this.listenersOf(instance.getClass());
+
+        if (listeners.length == 0) {
+            return;
+        }
+
+        WiringEvents.InstantiationListeners event = new WiringEvents.InstantiationListeners();
+        WiringMetrics metrics = this.metrics;
+        long start = metrics == null ? 0 : System.nanoTime();
+
+        event.begin();
+        this.dispatchInstantiationListeners(instance, listeners);
+
+        if (metrics != null) {
+            metrics.of(instance.getClass()).recordListeners(System.nanoTime() - start);
+        }
+
+        if (event.shouldCommit()) {
+            event.type = instance.getClass();
+            event.commit();
+        }
+    }
+
+    private void dispatchInstantiationListeners(
+            final @NotNull Object instance,
+            final InstantiationListener @NotNull [] listeners
+    ) {
+        for (final InstantiationListener listener : listeners) {
+            Object[] args = this.listenerArguments.get(listener);
+
+            if (args == null) {
+                args = this.resolveListenerArguments(listener);
+            }
+
+            try {
+                listener.listener.accept(instance, args);
+            } catch (Exception exception) {
+                this.logger.log(Level.SEVERE, "Exception in listener of type " + listener.type + ": ", exception);
+            }
+        }
+    }
+
+	/**
+	 * Resolves the dependencies of a listener, which are singletons and thereby only need to be
+	 * resolved once. The arguments are only cached if all dependencies could be resolved, as a
+	 * dependency may not be available yet while wiring is still in progress.
+	 *
+	 * @param listener The listener to resolve the dependencies of
+	 * @return Arguments to be passed to the listener
+	 */
+	private Object[] resolveListenerArguments(final @NotNull InstantiationListener listener) {
+		final Object[] args = new Object[listener.dependencies.length];
+		boolean complete = true;
+
+		for (
+			int i = 0; i < args.length; i++
+		) {
+			args[i] = this.getOrInstantiateClass(listener.dependencies[i], null, true);
+			complete &= args[i] != null;
+		}
+
+		if (
+			complete
+		) this.listenerArguments.put(listener, args);
+
+		return args;
+	}
+
+	/**
+	 * Retrieves an existing instance or instantiates a new instance of the specified class.
+	 * If the class is set as a singleton, it checks for an existing instance first.
+	 * Handles dependencies, circular dependencies, and instantiation listeners.
+	 *
+	 * @param clazz The class to retrieve or instantiate
+	 * @param parentClazz The parent class (if any) that triggered the instantiation
+	 * @param singleton Flag indicating if the class should be treated as a singleton
+	 * @return The retrieved or newly instantiated object, or null if instantiation fails
+	 */
+    private @Nullable Object getOrInstantiateClass(
+            final @NotNull Class<?> clazz,
+            final @Nullable Class<?> parentClazz,
+            final boolean singleton
+    ) {
+        if (this.frozenInstances != null) {
+            return this.getOrInstantiateFrozen(clazz, singleton);
+        }
+
+        if (singleton) {
+            Object existing = this.lookupInstance(clazz);
+            if (existing != null) {
+                return existing;
+            }
+        }
+
+        Class<?> binding = this.findBinding(clazz);
+        if (binding == null) {
+            return null;
+        }
+
+        if (!singleton) {
+            return this.instantiateClass(clazz, parentClazz, binding, false);
+        }
+
+        return this.instantiateSingleton(binding, () -> {
+            // Another caller may have created the singleton in the meantime
+            Object existing = this.lookupInstance(clazz);
+            return existing != null ? existing : this.instantiateClass(clazz, parentClazz, binding, true);
+        });
+    }
+
+	/**
+	 * Instantiates a class by the constructor of its binding, after resolving all of its dependencies,
+	 * and calls instantiation listeners on the new instance.
+	 *
+	 * @param clazz The class to instantiate
+	 * @param parentClazz The parent class (if any) that triggered the instantiation
+	 * @param binding The binding which satisfies the class
+	 * @param singleton Flag indicating if the instance is to be registered as a singleton
+	 * @return The newly instantiated object, or null if instantiation fails
+	 */
+    private @Nullable Object instantiateClass(
+            final @NotNull Class<?> clazz,
+            final @Nullable Class<?> parentClazz,
+            final @NotNull Class<?> binding,
+            final boolean singleton
+    ) {
+        ConstructorInfo constructorInfo = this.singletonConstructors.get(binding);
+        Set<Class<?>> encounteredClasses = this.encounteredClasses.get();
+
+        // Either the proxy already exists but is not assignable, or a dependent requests the class itself
+        if (singleton && (this.lazyProxies.containsKey(binding) || (
+                this.lazyBindings.contains(binding) && !clazz.isInterface() && !encounteredClasses.isEmpty()
+        ))) {
+            this.logger.severe(
+                    "Lazy singleton " + binding + " can only be injected by one of its interfaces, not as " + clazz
+            );
+            return null;
+        }
+
+		if (!encounteredClasses.add(clazz)) {
+			this.logger.severe(
+					"Circular dependency detected: " + clazz + " of parent class " + parentClazz
+			);
+			return null;
+		}
+
+        Object[] argumentValues = new Object[constructorInfo.parameters.length];
+        for (int i = 0; i < argumentValues.length; i++) {
+            argumentValues[i] = this.unwrapArgument(this.getOrInstantiateClass(
+                    constructorInfo.parameters[i],
+                    clazz,
+                    true
+            ));
+        }
+
+        Object instance;
+        long start = this.metrics == null ? 0 : System.nanoTime();
+        try {
+            if (singleton && this.lazyBindings.contains(binding)) {
+                Object proxy = this.createLazySingleton(binding, constructorInfo, argumentValues);
+                if (proxy != null) {
+                    return proxy;
+                }
+            }
+
+            instance = this.invokeConstructor(clazz, parentClazz, constructorInfo, argumentValues);
+        } finally {
+			encounteredClasses.remove(clazz);
+		}
+
+        if (instance == null) {
+            return null;
+        }
+
+        if (singleton) {
+            this.registerSingleton(instance, constructorInfo, argumentValues, this.metrics == null ? 0 : System.nanoTime() - start);
+        } else {
+            this.callInstantiationListeners(instance);
+        }
+
+        return instance;
+    }
+
+	/**
+	 * Creates and registers the proxy of a lazy singleton, which implements all interfaces of the bound
+	 * class other than the lifecycle interfaces, as these are taken care of on construction and cleanup.
+	 *
+	 * @param binding The bound class
+	 * @param constructorInfo The constructor info of the bound class
+	 * @param argumentValues The already resolved constructor arguments
+	 * @return The registered proxy, or null if the class cannot be proxied
+	 */
+	private @Nullable Object createLazySingleton(
+		final @NotNull Class<?> binding,
+		final @NotNull ConstructorInfo constructorInfo,
+		final Object @NotNull [] argumentValues
+	) {
+		final Class<?>[] interfaces = this.proxyInterfacesOf(binding);
+
+		if (interfaces.length == 0) {
+			this.logger.warning("Lazy singleton " + binding + " does not implement any interfaces, instantiating it eagerly");
+			return null;
+		}
+
+		final LazySingleton lazySingleton = new LazySingleton(binding, creation -> this.callOnMainThread(binding, creation), () -> {
+			final Object instance = this.construct(binding, null, constructorInfo, argumentValues);
+
+			if (
+				instance == null
+			) throw new IllegalStateException("The generator of lazy singleton " + binding + " returned null");
+
+			this.callInstantiationListeners(instance);
+			return instance;
+		}, this::initializeInstance);
+
+		final Object proxy;
+
+		try {
+			proxy = Proxy.newProxyInstance(binding.getClassLoader(), interfaces, lazySingleton);
+		} catch (
+			final IllegalArgumentException exception
+		) {
+			this.logger.log(Level.WARNING, "Could not proxy lazy singleton " + binding + ", instantiating it eagerly", exception);
+			return null;
+		}
+
+		// Cleaning up the proxy cleans up the actual instance, if it has ever been created
+		final ConstructorInfo proxyInfo = new ConstructorInfo(
+			constructorInfo.parameters,
+			constructorInfo.constructor,
+			ignored -> {
+				final Object instance = lazySingleton.getIfCreated();
+
+				if (
+					instance != null
+				) this.cleanupInstance(new SingletonInstance(instance, constructorInfo, argumentValues));
+			}
+		);
+
+		this.lazyProxies.put(binding, proxy);
+		this.registerInstance(proxy, proxyInfo, argumentValues);
+		return proxy;
+	}
+
+	/**
+	 * Get all interfaces the proxy of a lazy singleton implements.
+	 */
+	private Class<?>[] proxyInterfacesOf(final @NotNull Class<?> binding) {
+		return Arrays.stream(TypeIndex.supertypesOf(binding))
+			.filter(type -> type.isInterface() && type != IInitializable.class && type != ICleanable.class)
+			.toArray(Class<?>[]::new);
+	}
+
+	/**
+	 * Invokes the constructor of a class and logs exceptions thrown by it.
+	 *
+	 * @param clazz The class to be constructed
+	 * @param parentClazz The parent class (if any) that triggered the instantiation
+	 * @param constructorInfo The constructor info of the class
+	 * @param argumentValues The resolved constructor arguments
+	 * @return The new instance, or null if the constructor threw
+	 */
+	@Nullable Object invokeConstructor(
+		final @NotNull Class<?> clazz,
+		final @Nullable Class<?> parentClazz,
+		final @NotNull ConstructorInfo constructorInfo,
+		final Object[] argumentValues
+	) {
+		try {
+			return this.construct(clazz, parentClazz, constructorInfo, argumentValues);
+		} catch (
+			final Exception exception
+		) {
+			this.logger.log(
+				Level.SEVERE,
+				"Exception in getOrInstantiateClass " + constructorInfo + ": " + clazz, exception
+			);
+			return null;
+		}
+	}
+
+	/**
+	 * Invokes the constructor of a class, recording its duration if metrics are enabled, even if it threw.
+	 * Durations are recorded for the class of the instance, or for the class to be constructed if there is none.
+	 *
+	 * @param clazz The class to be constructed
+	 * @param parentClazz The parent class (if any) that triggered the instantiation
+	 * @param constructorInfo The constructor info of the class
+	 * @param argumentValues The resolved constructor arguments
+	 * @return The new instance, which may only be null if a generator returned null
+	 */
+	private @Nullable Object construct(
+		final @NotNull Class<?> clazz,
+		final @Nullable Class<?> parentClazz,
+		final @NotNull ConstructorInfo constructorInfo,
+		final Object[] argumentValues
+	) throws Exception {
+		final WiringEvents.Instantiation event = new WiringEvents.Instantiation();
+		final WiringMetrics metrics = this.metrics;
+		final long start = metrics == null ? 0 : System.nanoTime();
+
+		event.begin();
+
+		Object instance = null;
+
+		try {
+			instance = constructorInfo.constructor.apply(argumentValues);
+			return instance;
+		} finally {
+			if (
+				metrics != null
+			) metrics.of(instance != null ? instance.getClass() : clazz).recordConstruction(System.nanoTime() - start);
+
+			if (event.shouldCommit()) {
+				event.type = clazz;
+				event.parentType = parentClazz;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Calls the initializer of a registered singleton, recording its duration for this very singleton
+	 * as well as for its class if metrics are enabled.
+	 *
+	 * @param data The singleton to initialize
+	 */
+	private void initializeSingleton(final @NotNull SingletonInstance data) throws Exception {
+		this.initializeInstance(data.instance, data);
+	}
+
+	/**
+	 * Calls the initializer of an instance, if it implements `IInitializable`, recording its
+	 * duration if metrics are enabled.
+	 *
+	 * @param instance The instance to initialize
+	 */
+	private void initializeInstance(final @NotNull Object instance) throws Exception {
+		this.initializeInstance(instance, null);
+	}
+
+	private void initializeInstance(
+		final @NotNull Object instance,
+		final @Nullable SingletonInstance data
+	) throws Exception {
+		if (
+			!(instance instanceof IInitializable initializable)
+		) return;
+
+		final WiringEvents.Initialization event = new WiringEvents.Initialization();
+		final WiringMetrics metrics = this.metrics;
+		final long start = metrics == null ? 0 : System.nanoTime();
+
+		event.begin();
+
+		try {
+			initializable.initialize();
+		} finally {
+			if (metrics != null) {
+				final long elapsed = System.nanoTime() - start;
+				metrics.of(instance.getClass()).recordInitialization(elapsed);
+
+				if (
+					data != null
+				) data.initializationNanos = elapsed;
+			}
+
+			if (event.shouldCommit()) {
+				event.type = instance.getClass();
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Calls the cleanup method of an instance, recording its duration if metrics are enabled.
+	 *
+	 * @param cleanable The instance to clean up
+	 */
+	private void cleanupCleanable(final @NotNull ICleanable cleanable) throws Exception {
+		final WiringEvents.Cleanup event = new WiringEvents.Cleanup();
+		final WiringMetrics metrics = this.metrics;
+		final long start = metrics == null ? 0 : System.nanoTime();
+
+		event.begin();
+
+		try {
+			cleanable.cleanup();
+		} finally {
+			if (
+				metrics != null
+			) metrics.of(cleanable.getClass()).recordCleanup(System.nanoTime() - start);
+
+			if (event.shouldCommit()) {
+				event.type = cleanable.getClass();
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Unwraps resolved arguments which are optionals into their value, or null.
+	 */
+	private @Nullable Object unwrapArgument(final @Nullable Object argument) {
+		if (argument instanceof Optional<?> optional)
+			return optional.orElse(null);
+
+		return argument;
+	}
+
+	/**
+	 * Retrieves an instance of a class or instantiates it if necessary.
 	 *
 	 * @param clazz The class to retrieve an instance of or instantiate.
 	 * @param singleton Flag indicating if the instance should be a singleton.
@@ -419,27 +2543,184 @@ public class AutoWirer implements IAutoWirer {
 	 */
 	@Override
     public <T> T getOrInstantiateClass(final Class<T> clazz, final boolean singleton) {
-        registerConstructor(clazz);
-        return clazz.cast(getOrInstantiateClass(clazz, null, singleton));
+        if (singleton) {
+            // Binding a class which is already provided, for example by the parent, would shadow it
+            Object existing = this.lookupInstance(clazz);
+            if (existing != null) {
+                return clazz.cast(existing);
+            }
+        }
+
+        if (this.frozenInstances == null) {
+            registerConstructor(clazz);
+        }
+
+        if (!singleton) {
+            PrototypeFactory<T> factory = this.prototypeFactory(clazz);
+            return factory == null ? null : factory.create();
+        }
+
+        return clazz.cast(getOrInstantiateClass(clazz, null, true));
     }
 
 	/**
-	 * Registers a constructor for a given class to be used for autowiring.
+	 * Get the factory which creates new instances of a class that is not a singleton. The class
+	 * is compiled on the first call and all of its dependencies are resolved as singletons, after
+	 * which the factory is cached for as long as the singletons exist.
+	 *
+	 * @param clazz The class to get the factory for
+	 * @param <T> The type of the class
+	 * @return The factory, or null if the class cannot be constructed
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> @Nullable PrototypeFactory<T> prototypeFactory(final @NotNull Class<T> clazz) {
+		final PrototypeFactory<?> cached = this.prototypeFactories.get(clazz);
+
+		if (
+			cached != null
+		) return (PrototypeFactory<T>) cached;
+
+		ConstructorInfo constructorInfo = this.singletonConstructors.get(clazz);
+
+		if (
+			constructorInfo == null
+		) constructorInfo = this.prototypeConstructors.computeIfAbsent(clazz, this::createConstructorInfo);
+
+		if (
+			constructorInfo == null
+		) return null;
+
+		final Object[] argumentValues = new Object[constructorInfo.parameters.length];
+		boolean complete = true;
+
+		for (
+			int i = 0; i < argumentValues.length; i++
+		) {
+			argumentValues[i] = this.unwrapArgument(this.getOrInstantiateClass(constructorInfo.parameters[i], clazz, true));
+			complete &= argumentValues[i] != null;
+		}
+
+		final PrototypeFactory<T> factory = new PrototypeFactory<>(clazz, constructorInfo, argumentValues, this);
+
+		// Dependencies which are not available yet are retried on the next call
+		if (
+			!complete
+		) return factory;
+
+		final PrototypeFactory<?> existing = this.prototypeFactories.putIfAbsent(clazz, factory);
+		return existing != null ? (PrototypeFactory<T>) existing : factory;
+	}
+
+	/**
+	 * Retrieves an existing singleton or instantiates a prototype after the `AutoWirer` has been frozen,
+	 * which only reads immutable state and can thus be called by any thread.
+	 *
+	 * @param clazz The class to retrieve or instantiate
+	 * @param singleton Flag indicating if the class should be treated as a singleton
+	 * @return The retrieved or newly instantiated object, or null if instantiation fails
+	 */
+	private @Nullable Object getOrInstantiateFrozen(
+		final @NotNull Class<?> clazz,
+		final boolean singleton
+	) {
+		if (singleton) {
+			final Object existing = this.lookupInstance(clazz);
+
+			if (
+				existing != null
+			) return existing;
+
+			if (
+				this.findBinding(clazz) != null
+			) throw new IllegalStateException("Cannot instantiate singleton " + clazz + " after the AutoWirer has been frozen");
+
+			return null;
+		}
+
+		final PrototypeFactory<?> factory = this.prototypeFactory(clazz);
+		return factory == null ? null : factory.create();
+	}
+
+	/**
+	 * Registers a constructor for a given class to be used for autowiring. Classes annotated
+	 * by {@link AutoWire} are constructed through their generated {@link WiringFactory}, if
+	 * available, while all others are constructed through a cached method handle or reflection.
 	 *
 	 * @param clazz The class for which the constructor will be registered.
 	 */
     private void registerConstructor(final @NotNull Class<?> clazz) {
+        if (singletonConstructors.containsKey(clazz)) {
+            return;
+        }
+
+        ConstructorInfo constructorInfo = createConstructorInfo(clazz);
+        if (constructorInfo != null) {
+            registerBinding(clazz, constructorInfo);
+        }
+    }
+
+	/**
+	 * Creates the constructor info of a class, either from its generated factory or from its only constructor.
+	 *
+	 * @param clazz The class to create the constructor info for
+	 * @return The constructor info, or null if the class does not have exactly one constructor
+	 */
+    private @Nullable ConstructorInfo createConstructorInfo(final @NotNull Class<?> clazz) {
+        WiringFactory<?> factory = findGeneratedFactory(clazz);
+        if (factory != null) {
+            return new ConstructorInfo(
+                    factory.getParameterTypes(),
+                    factory::create,
+                    null,
+                    true
+            );
+        }
+
         Constructor<?>[] constructors = clazz.getDeclaredConstructors();
         if (constructors.length != 1) {
             logger.severe("Auto-wired class: " + clazz + " needs to have exactly one public constructor");
-            return;
+            return null;
         }
 
         Constructor<?> constructor = constructors[0];
-        singletonConstructors.computeIfAbsent(clazz, key -> new ConstructorInfo(
+        return new ConstructorInfo(
                 constructor.getParameterTypes(),
-                constructor::newInstance,
-                null
-        ));
+                reflectiveConstructors ? constructor::newInstance : ConstructorInvokers.of(clazz),
+                null,
+                true
+        );
     }
+
+	/**
+	 * Loads the factory which has been generated at compile time for a class annotated
+	 * by {@link AutoWire}.
+	 *
+	 * @param clazz The class to load the factory for
+	 * @return The factory, or null if the class is not annotated or no factory has been generated
+	 */
+	private @Nullable WiringFactory<?> findGeneratedFactory(final @NotNull Class<?> clazz) {
+		if (
+			!clazz.isAnnotationPresent(AutoWire.class)
+		) return null;
+
+		try {
+			final Class<?> factoryClass = Class.forName(
+				clazz.getName() + WiringFactory.CLASS_NAME_SUFFIX,
+				true,
+				clazz.getClassLoader()
+			);
+
+			return (WiringFactory<?>) factoryClass.getDeclaredConstructor().newInstance();
+		} catch (
+			final ClassNotFoundException exception
+		) {
+			this.logger.warning("No generated factory found for " + clazz + ", is the AutoWirer-Processor configured?");
+			return null;
+		} catch (
+			final ReflectiveOperationException | ClassCastException exception
+		) {
+			this.logger.log(Level.SEVERE, "Could not load the generated factory of " + clazz, exception);
+			return null;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulated timings and lookup count of a single bound class. As a class may be
+ * instantiated multiple times, all timings are sums over all of its instances.
+ */
+public final class BindingMetrics {
+
+  private final Class<?> type;
+  private final LongAdder constructionNanos = new LongAdder();
+  private final LongAdder listenerNanos = new LongAdder();
+  private final LongAdder initializationNanos = new LongAdder();
+  private final LongAdder cleanupNanos = new LongAdder();
+  private final LongAdder lookups = new LongAdder();
+
+  BindingMetrics(@NotNull Class<?> type) {
+    this.type = type;
+  }
+
+  void recordConstruction(long nanos) {
+    constructionNanos.add(nanos);
+  }
+
+  void recordListeners(long nanos) {
+    listenerNanos.add(nanos);
+  }
+
+  void recordInitialization(long nanos) {
+    initializationNanos.add(nanos);
+  }
+
+  void recordCleanup(long nanos) {
+    cleanupNanos.add(nanos);
+  }
+
+  void recordLookup() {
+    lookups.increment();
+  }
+
+  public @NotNull Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * Get the time spent invoking the constructor
+   */
+  public long getConstructionNanos() {
+    return constructionNanos.sum();
+  }
+
+  /**
+   * Get the time spent calling instantiation listeners on instances
+   */
+  public long getListenerNanos() {
+    return listenerNanos.sum();
+  }
+
+  /**
+   * Get the time spent within {@link IInitializable#initialize()}
+   */
+  public long getInitializationNanos() {
+    return initializationNanos.sum();
+  }
+
+  /**
+   * Get the time spent within {@link ICleanable#cleanup()}
+   */
+  public long getCleanupNanos() {
+    return cleanupNanos.sum();
+  }
+
+  /**
+   * Get the sum of all recorded timings
+   */
+  public long getTotalNanos() {
+    return getConstructionNanos() + getListenerNanos() + getInitializationNanos() + getCleanupNanos();
+  }
+
+  /**
+   * Get the number of times an instance has been looked up by {@link AutoWirer#findInstance(Class)}
+   */
+  public long getLookups() {
+    return lookups.sum();
+  }
+
+  @Override
+  public String toString() {
+    return (
+      type.getName() +
+      " (construction=" + getConstructionNanos() +
+      "ns, listeners=" + getListenerNanos() +
+      "ns, initialization=" + getInitializationNanos() +
+      "ns, cleanup=" + getCleanupNanos() +
+      "ns, lookups=" + getLookups() + ")"
+    );
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AutoWirer} which may be queried by {@link #getOrInstantiateClass(Class, boolean)} from
+ * multiple threads at once, even before it has been frozen. Each binding is guarded by its own lock,
+ * so that a singleton is constructed exactly once, while callers which resolve unrelated bindings
+ * never wait on each other. Lookups of already existing singletons do not lock at all.
+ * <p>
+ * As circular dependencies which span multiple threads cannot be detected per thread, waiting on
+ * the lock of a binding is bounded by a timeout, after which resolution fails.
+ */
+public class ConcurrentAutoWirer extends AutoWirer {
+
+  private static final Duration DEFAULT_LOCK_TIMEOUT = Duration.ofSeconds(30);
+
+  private final Map<Class<?>, ReentrantLock> bindingLocks = new ConcurrentHashMap<>();
+  private final long lockTimeoutNanos;
+
+  public ConcurrentAutoWirer() {
+    this(DEFAULT_LOCK_TIMEOUT);
+  }
+
+  /**
+   * @param lockTimeout Maximum time to wait on another thread which is constructing the same binding
+   */
+  public ConcurrentAutoWirer(@NotNull Duration lockTimeout) {
+    this(null, lockTimeout.toNanos());
+  }
+
+  private ConcurrentAutoWirer(@Nullable AutoWirer parent, long lockTimeoutNanos) {
+    super(parent);
+    this.lockTimeoutNanos = lockTimeoutNanos;
+  }
+
+  /**
+   * Creates a child container just like {@link AutoWirer#createChild()}, which may be queried
+   * concurrently as well and waits on the locks of its bindings just as long as this container
+   */
+  @Override
+  public ConcurrentAutoWirer createChild() {
+    return (ConcurrentAutoWirer) super.createChild();
+  }
+
+  @Override
+  protected AutoWirer newChild() {
+    return new ConcurrentAutoWirer(this, lockTimeoutNanos);
+  }
+
+  @Override
+  protected @Nullable Object instantiateSingleton(
+    @NotNull Class<?> binding,
+    @NotNull Supplier<@Nullable Object> instantiation
+  ) {
+    ReentrantLock lock = acquireLock(binding);
+
+    try {
+      return instantiation.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  protected @Nullable Object guardInstantiations(
+    @NotNull List<Class<?>> bindings,
+    @NotNull Supplier<@Nullable Object> task
+  ) {
+    List<ReentrantLock> locks = new ArrayList<>(bindings.size());
+
+    try {
+      for (Class<?> binding : bindings)
+        locks.add(acquireLock(binding));
+
+      return task.get();
+    } finally {
+      for (int i = locks.size() - 1; i >= 0; i--)
+        locks.get(i).unlock();
+    }
+  }
+
+  private ReentrantLock acquireLock(Class<?> binding) {
+    ReentrantLock lock = bindingLocks.computeIfAbsent(binding, key -> new ReentrantLock());
+
+    try {
+      if (!lock.tryLock(lockTimeoutNanos, TimeUnit.NANOSECONDS))
+        throw new IllegalStateException("Timed out waiting on the instantiation of " + binding + ", possibly due to a circular dependency");
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting on the instantiation of " + binding, exception);
+    }
+
+    return lock;
+  }
+}
@@ -34,14 +34,28 @@ public class ConstructorInfo {
   public final FUnsafeFunction<Object[], ?, Exception> constructor;
   public final @Nullable FUnsafeConsumer<Object, Exception> externalCleanup;
 
+  // Whether the constructor only reads the argument array and never modifies or retains it,
+  // which allows the same array to be passed to multiple invocations
+  public final boolean sharesArguments;
+
   public ConstructorInfo(
     Class<?>[] parameters,
     FUnsafeFunction<Object[], ?, Exception> constructor,
     @Nullable FUnsafeConsumer<Object, Exception> externalCleanup
+  ) {
+    this(parameters, constructor, externalCleanup, false);
+  }
+
+  public ConstructorInfo(
+    Class<?>[] parameters,
+    FUnsafeFunction<Object[], ?, Exception> constructor,
+    @Nullable FUnsafeConsumer<Object, Exception> externalCleanup,
+    boolean sharesArguments
   ) {
     this.parameters = parameters;
     this.constructor = constructor;
     this.externalCleanup = externalCleanup;
+    this.sharesArguments = sharesArguments;
   }
 
 }
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import me.blvckbytes.utilitytypes.FUnsafeFunction;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates invokers for the single constructor of auto-wired classes which are backed by
+ * a method handle, spread over the argument array. Access checks are performed once when
+ * the handle is created, instead of on every reflective invocation.
+ */
+final class ConstructorInvokers {
+
+  private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+  private static final ClassValue<FUnsafeFunction<Object[], ?, Exception>> INVOKERS = new ClassValue<>() {
+    @Override
+    protected FUnsafeFunction<Object[], ?, Exception> computeValue(@NotNull Class<?> type) {
+      return createInvoker(type.getDeclaredConstructors()[0]);
+    }
+  };
+
+  private ConstructorInvokers() {}
+
+  /**
+   * Get the cached invoker of the only declared constructor of the given class
+   *
+   * @param type Class with exactly one declared constructor
+   */
+  static FUnsafeFunction<Object[], ?, Exception> of(@NotNull Class<?> type) {
+    return INVOKERS.get(type);
+  }
+
+  private static FUnsafeFunction<Object[], ?, Exception> createInvoker(Constructor<?> constructor) {
+    MethodHandle handle;
+
+    try {
+      handle = MethodHandles.lookup()
+        .unreflectConstructor(constructor)
+        .asSpreader(Object[].class, constructor.getParameterCount())
+        .asType(INVOKER_TYPE);
+    } catch (IllegalAccessException exception) {
+      // Not accessible from within this package, leave the access checks to reflection
+      return constructor::newInstance;
+    }
+
+    return arguments -> {
+      try {
+        return handle.invokeExact(arguments);
+      } catch (Exception | Error exception) {
+        throw exception;
+      } catch (Throwable throwable) {
+        throw new Exception(throwable);
+      }
+    };
+  }
+}
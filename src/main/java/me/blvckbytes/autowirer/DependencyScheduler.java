@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntFunction;
+
+/**
+ * Runs a task per node of a dependency graph on an executor, where a node's task is only
+ * submitted once the tasks of all of its dependencies completed. Independent nodes thereby
+ * run concurrently. Exceptions are collected per node instead of aborting the run.
+ */
+final class DependencyScheduler {
+
+  @FunctionalInterface
+  interface NodeTask {
+    void run(int node) throws Exception;
+  }
+
+  private final int[][] dependents;
+  private final int[] dependencyCounts;
+
+  /**
+   * @param dependencies Per node, the nodes which have to complete before it, may contain duplicates
+   */
+  DependencyScheduler(int[] @NotNull [] dependencies) {
+    int[][] distinctDependencies = new int[dependencies.length][];
+
+    this.dependencyCounts = new int[dependencies.length];
+
+    for (int node = 0; node < dependencies.length; node++) {
+      distinctDependencies[node] = Arrays.stream(dependencies[node]).distinct().toArray();
+      dependencyCounts[node] = distinctDependencies[node].length;
+    }
+
+    this.dependents = invert(distinctDependencies);
+  }
+
+  /**
+   * Runs the task for every node and blocks until all of them completed, or the timeout elapsed.
+   *
+   * @param task Task to run per node
+   * @param executor Executor to run the tasks on
+   * @param onSkipped If present, nodes with a failed dependency are skipped and this creates the
+   *                  exception to be reported for them, otherwise they are run regardless
+   * @param timeout Maximum duration to wait for all tasks, waits indefinitely if absent. Tasks which
+   *                are still pending after the timeout elapsed are not cancelled.
+   * @return Exceptions thrown by the tasks in order of occurrence, followed by a TimeoutException
+   *         if the timeout elapsed
+   */
+  List<Exception> run(
+    @NotNull NodeTask task,
+    @NotNull Executor executor,
+    @Nullable IntFunction<Exception> onSkipped,
+    @Nullable Duration timeout
+  ) throws InterruptedException {
+    Run run = new Run(task, executor, onSkipped);
+
+    for (int node = 0; node < dependents.length; node++) {
+      if (dependencyCounts[node] == 0)
+        run.submit(node);
+    }
+
+    if (timeout == null) {
+      run.remaining.await();
+      return new ArrayList<>(run.exceptions);
+    }
+
+    boolean completed = run.remaining.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    List<Exception> exceptions = new ArrayList<>(run.exceptions);
+
+    if (!completed)
+      exceptions.add(new TimeoutException(run.remaining.getCount() + " tasks did not complete within " + timeout));
+
+    return exceptions;
+  }
+
+  /**
+   * Inverts the direction of all edges, making dependents the dependencies of their former dependencies
+   *
+   * @param dependencies Per node, the nodes it depends on
+   * @return Per node, the nodes which depend on it
+   */
+  static int[][] invert(int[] @NotNull [] dependencies) {
+    int[] dependentCounts = new int[dependencies.length];
+
+    for (int[] nodeDependencies : dependencies) {
+      for (int dependency : nodeDependencies)
+        ++dependentCounts[dependency];
+    }
+
+    int[][] dependents = new int[dependencies.length][];
+
+    for (int node = 0; node < dependencies.length; node++)
+      dependents[node] = new int[dependentCounts[node]];
+
+    for (int node = dependencies.length - 1; node >= 0; node--) {
+      for (int dependency : dependencies[node])
+        dependents[dependency][--dependentCounts[dependency]] = node;
+    }
+
+    return dependents;
+  }
+
+  private class Run {
+
+    private final NodeTask task;
+    private final Executor executor;
+    private final @Nullable IntFunction<Exception> onSkipped;
+
+    private final AtomicIntegerArray pendingDependencies;
+    private final boolean[] failed;
+    private final Queue<Exception> exceptions = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch remaining;
+
+    private Run(NodeTask task, Executor executor, @Nullable IntFunction<Exception> onSkipped) {
+      this.task = task;
+      this.executor = executor;
+      this.onSkipped = onSkipped;
+      this.pendingDependencies = new AtomicIntegerArray(dependencyCounts);
+      this.failed = new boolean[dependencyCounts.length];
+      this.remaining = new CountDownLatch(dependencyCounts.length);
+    }
+
+    private void submit(int node) {
+      try {
+        executor.execute(() -> execute(node));
+      } catch (RuntimeException exception) {
+        // Rejected by the executor, which should not stall the whole run
+        exceptions.add(exception);
+        complete(node, true);
+      }
+    }
+
+    private void execute(int node) {
+      // Failure flags are written before decrementing, which makes them visible here
+      if (onSkipped != null && failed[node]) {
+        exceptions.add(onSkipped.apply(node));
+        complete(node, true);
+        return;
+      }
+
+      boolean success = true;
+
+      try {
+        task.run(node);
+      } catch (Exception exception) {
+        exceptions.add(exception);
+        success = false;
+      }
+
+      complete(node, !success);
+    }
+
+    private void complete(int node, boolean failure) {
+      for (int dependent : dependents[node]) {
+        if (failure)
+          failed[dependent] = true;
+
+        if (pendingDependencies.decrementAndGet(dependent) == 0)
+          submit(dependent);
+      }
+
+      remaining.countDown();
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import me.blvckbytes.utilitytypes.FUnsafeConsumer;
+import me.blvckbytes.utilitytypes.FUnsafeFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+/**
+ * Invocation handler of a proxy which stands in for a lazy singleton, where the actual
+ * instance is created exactly once, on the first call of any of its interface methods.
+ * Identity based equals and hashCode are answered by the proxy itself, so they never
+ * cause creation. A failed construction is retried on the next call, while a failed
+ * initialization is rethrown by all further calls, as the constructed instance has
+ * already been passed to instantiation listeners and is only to be cleaned up.
+ */
+final class LazySingleton implements InvocationHandler {
+
+  private final Class<?> type;
+  private final FUnsafeFunction<Callable<Object>, Object, Exception> creationContext;
+  private final Callable<Object> factory;
+  private final FUnsafeConsumer<Object, Exception> initializer;
+
+  // Set once the instance has been constructed and initialized successfully
+  private volatile @Nullable Object instance;
+
+  // Set once the instance has been constructed, regardless of its initialization
+  private volatile @Nullable Object constructed;
+  private @Nullable Exception initializationFailure;
+
+  /**
+   * @param type Bound class the proxy stands in for
+   * @param creationContext Calls the creation within the context it has to take place in, for example on another thread
+   * @param factory Constructs the instance and calls instantiation listeners on it
+   * @param initializer Initializes the constructed instance
+   */
+  LazySingleton(
+    @NotNull Class<?> type,
+    @NotNull FUnsafeFunction<Callable<Object>, Object, Exception> creationContext,
+    @NotNull Callable<Object> factory,
+    @NotNull FUnsafeConsumer<Object, Exception> initializer
+  ) {
+    this.type = type;
+    this.creationContext = creationContext;
+    this.factory = factory;
+    this.initializer = initializer;
+  }
+
+  /**
+   * Get the actual instance, creating it if this is the first access
+   */
+  Object get() throws Exception {
+    Object result = instance;
+
+    if (result != null)
+      return result;
+
+    // The lock is only taken within the context, which may be another thread waited for
+    return creationContext.apply(this::create);
+  }
+
+  private Object create() throws Exception {
+    synchronized (this) {
+      if (instance != null)
+        return instance;
+
+      if (initializationFailure != null)
+        throw new IllegalStateException("The initialization of lazy singleton " + type + " failed", initializationFailure);
+
+      if (constructed == null)
+        constructed = factory.call();
+
+      try {
+        initializer.accept(constructed);
+      } catch (Exception exception) {
+        initializationFailure = exception;
+        throw exception;
+      }
+
+      return instance = constructed;
+    }
+  }
+
+  /**
+   * Get the bound class the proxy stands in for
+   */
+  Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * Get the actual instance if it has already been constructed, even if its initialization
+   * failed, without creating it otherwise
+   */
+  @Nullable Object getIfCreated() {
+    return constructed;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (method.getDeclaringClass() == Object.class) {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+
+        case "hashCode":
+          return System.identityHashCode(proxy);
+
+        case "toString":
+          Object created = instance;
+          return created == null ? "LazySingleton{" + type.getName() + "}" : created.toString();
+      }
+    }
+
+    try {
+      return method.invoke(get(), args);
+    } catch (InvocationTargetException exception) {
+      throw exception.getCause();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates new instances of a class which is not a singleton, where the class has been compiled
+ * once and all of its constructor arguments, which are singletons, have been resolved up front.
+ * Creating an instance thereby only invokes its constructor as well as the instantiation listeners
+ * which apply to it, without any lookups or allocations besides the instance itself, and a copy of
+ * the arguments for constructors which have been provided as a generator.
+ *
+ * @param <T> Type of the created instances
+ */
+public final class PrototypeFactory<T> {
+
+  private final Class<T> type;
+  private final ConstructorInfo constructorInfo;
+  private final Object[] arguments;
+  private final AutoWirer autoWirer;
+
+  PrototypeFactory(
+    @NotNull Class<T> type,
+    @NotNull ConstructorInfo constructorInfo,
+    Object @NotNull [] arguments,
+    @NotNull AutoWirer autoWirer
+  ) {
+    this.type = type;
+    this.constructorInfo = constructorInfo;
+    this.arguments = arguments;
+    this.autoWirer = autoWirer;
+  }
+
+  /**
+   * Creates a new instance and calls all applicable instantiation listeners on it
+   *
+   * @return The new instance, or null if the constructor threw
+   */
+  public @Nullable T create() {
+    // Reflective and generated constructors only read their arguments, while generators may modify or retain them
+    Object[] instanceArguments = constructorInfo.sharesArguments ? arguments : arguments.clone();
+    // Prototypes are requested at the top level, thus there is no parent class
+    Object instance = autoWirer.invokeConstructor(type, null, constructorInfo, instanceArguments);
+
+    if (instance == null)
+      return null;
+
+    autoWirer.callInstantiationListeners(instance);
+    return type.cast(instance);
+  }
+
+  public @NotNull Class<T> getType() {
+    return type;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+final class SingletonInstance {
+
+  static final Object[] NO_DEPENDENCIES = new Object[0];
+
+  final Object instance;
+  final @Nullable ConstructorInfo constructorInfo;
+
+  // Arguments the instance has been constructed with, which are its dependency edges
+  final Object[] dependencies;
+
+  // Durations spent on this very instance, only recorded while metrics are enabled
+  volatile long constructionNanos;
+  volatile long listenerNanos;
+  volatile long initializationNanos;
+
+  SingletonInstance(
+    @NotNull Object instance,
+    @Nullable ConstructorInfo constructorInfo,
+    Object @NotNull [] dependencies
+  ) {
+    this.instance = instance;
+    this.constructorInfo = constructorInfo;
+    this.dependencies = dependencies;
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Report on the singletons of an {@link AutoWirer}, forming a graph where each singleton depends on the
+ * singletons it has been constructed with. Every node is weighted by the time spent constructing it,
+ * calling instantiation listeners on it and initializing it. The critical path is the chain of dependencies
+ * with the largest sum of weights, which bounds wiring even if all other work were done in parallel, while
+ * the slack of a node is how much longer it could take without extending the critical path.
+ */
+public final class StartupReport {
+
+  private final List<Node> nodes;
+  private final List<Node> criticalPath;
+  private final long criticalPathNanos;
+  private final long totalNanos;
+
+  private StartupReport(List<Node> nodes, List<Node> criticalPath, long criticalPathNanos, long totalNanos) {
+    this.nodes = nodes;
+    this.criticalPath = criticalPath;
+    this.criticalPathNanos = criticalPathNanos;
+    this.totalNanos = totalNanos;
+  }
+
+  /**
+   * Creates a report of the given singletons, with the timings which have been recorded for each of them
+   *
+   * @param instances Singletons in order of registration, thus dependencies first
+   * @param dependencies Per singleton, the indices of the singletons it has been constructed with
+   */
+  static StartupReport create(SingletonInstance[] instances, int[][] dependencies) {
+    int size = instances.length;
+    List<Node> nodes = new ArrayList<>(size);
+    long[] earliestFinish = new long[size];
+    long totalNanos = 0;
+
+    for (int i = 0; i < size; i++) {
+      Node node = new Node(instances[i], dependencies[i], nodes);
+      nodes.add(node);
+
+      long earliestStart = 0;
+
+      for (int dependency : dependencies[i])
+        earliestStart = Math.max(earliestStart, earliestFinish[dependency]);
+
+      node.earliestStartNanos = earliestStart;
+      earliestFinish[i] = earliestStart + node.getWeightNanos();
+      totalNanos += node.getWeightNanos();
+    }
+
+    long criticalPathNanos = 0;
+    int last = -1;
+
+    for (int i = 0; i < size; i++) {
+      if (last < 0 || earliestFinish[i] > criticalPathNanos) {
+        criticalPathNanos = earliestFinish[i];
+        last = i;
+      }
+    }
+
+    // Dependents always come after their dependencies, thus a reverse pass sees all dependents first
+    long[] latestFinish = new long[size];
+    Arrays.fill(latestFinish, criticalPathNanos);
+
+    for (int i = size - 1; i >= 0; i--) {
+      Node node = nodes.get(i);
+      node.slackNanos = latestFinish[i] - earliestFinish[i];
+
+      for (int dependency : dependencies[i])
+        latestFinish[dependency] = Math.min(latestFinish[dependency], latestFinish[i] - node.getWeightNanos());
+    }
+
+    LinkedList<Node> criticalPath = new LinkedList<>();
+
+    for (int current = last; current >= 0; ) {
+      Node node = nodes.get(current);
+      node.critical = true;
+      criticalPath.addFirst(node);
+
+      int next = -1;
+
+      for (int dependency : dependencies[current]) {
+        if (next < 0 || earliestFinish[dependency] > earliestFinish[next])
+          next = dependency;
+      }
+
+      current = next;
+    }
+
+    return new StartupReport(
+      Collections.unmodifiableList(nodes),
+      Collections.unmodifiableList(new ArrayList<>(criticalPath)),
+      criticalPathNanos, totalNanos
+    );
+  }
+
+  /**
+   * Get all singletons in order of registration
+   */
+  public @NotNull List<Node> getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Get the singletons on the critical path, from its first dependency to its last dependent
+   */
+  public @NotNull List<Node> getCriticalPath() {
+    return criticalPath;
+  }
+
+  /**
+   * Get the sum of the weights of all singletons on the critical path
+   */
+  public long getCriticalPathNanos() {
+    return criticalPathNanos;
+  }
+
+  /**
+   * Get the sum of the weights of all singletons, which is the duration of sequential wiring
+   */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * Renders the report as human-readable text, listing the critical path first and all
+   * singletons by ascending slack afterward
+   */
+  public @NotNull String toText() {
+    StringBuilder result = new StringBuilder();
+
+    result.append("Startup report of ").append(nodes.size()).append(" singletons: ")
+      .append(formatMillis(totalNanos)).append(" in total, ")
+      .append(formatMillis(criticalPathNanos)).append(" on the critical path\n");
+
+    result.append("\nCritical path:\n");
+
+    for (Node node : criticalPath)
+      result.append("  ").append(formatMillis(node.getWeightNanos())).append("  ").append(node.type.getName()).append('\n');
+
+    result.append("\nSingletons by slack (construction / listeners / initialization / slack):\n");
+
+    List<Node> bySlack = new ArrayList<>(nodes);
+    bySlack.sort(Comparator.comparingLong(Node::getSlackNanos).thenComparing(Comparator.comparingLong(Node::getWeightNanos).reversed()));
+
+    for (Node node : bySlack) {
+      result.append("  ").append(node.critical ? '*' : ' ').append(' ').append(node.type.getName())
+        .append("  ").append(formatMillis(node.constructionNanos))
+        .append(" / ").append(formatMillis(node.listenerNanos))
+        .append(" / ").append(formatMillis(node.initializationNanos))
+        .append(" / ").append(formatMillis(node.slackNanos))
+        .append('\n');
+    }
+
+    return result.toString();
+  }
+
+  /**
+   * Renders the report as a JSON object, where dependencies and the critical path refer to
+   * singletons by the name of their class
+   */
+  public @NotNull String toJson() {
+    StringBuilder result = new StringBuilder();
+
+    result.append("{\"totalNanos\":").append(totalNanos)
+      .append(",\"criticalPathNanos\":").append(criticalPathNanos)
+      .append(",\"criticalPath\":[");
+
+    for (int i = 0; i < criticalPath.size(); i++) {
+      if (i > 0)
+        result.append(',');
+
+      appendString(result, criticalPath.get(i).type.getName());
+    }
+
+    result.append("],\"nodes\":[");
+
+    for (int i = 0; i < nodes.size(); i++) {
+      Node node = nodes.get(i);
+
+      if (i > 0)
+        result.append(',');
+
+      result.append("{\"type\":");
+      appendString(result, node.type.getName());
+      result.append(",\"constructionNanos\":").append(node.constructionNanos)
+        .append(",\"listenerNanos\":").append(node.listenerNanos)
+        .append(",\"initializationNanos\":").append(node.initializationNanos)
+        .append(",\"earliestStartNanos\":").append(node.earliestStartNanos)
+        .append(",\"slackNanos\":").append(node.slackNanos)
+        .append(",\"critical\":").append(node.critical)
+        .append(",\"dependencies\":[");
+
+      for (int j = 0; j < node.dependencies.length; j++) {
+        if (j > 0)
+          result.append(',');
+
+        appendString(result, nodes.get(node.dependencies[j]).type.getName());
+      }
+
+      result.append("]}");
+    }
+
+    return result.append("]}").toString();
+  }
+
+  @Override
+  public String toString() {
+    return toText();
+  }
+
+  private static String formatMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000D);
+  }
+
+  private static void appendString(StringBuilder output, String value) {
+    output.append('"');
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+
+      if (c == '"' || c == '\\')
+        output.append('\\').append(c);
+      else if (c < 0x20)
+        output.append(String.format("\\u%04x", (int) c));
+      else
+        output.append(c);
+    }
+
+    output.append('"');
+  }
+
+  /**
+   * A singleton within the report
+   */
+  public static final class Node {
+
+    private final Class<?> type;
+    private final long constructionNanos;
+    private final long listenerNanos;
+    private final long initializationNanos;
+    private final int[] dependencies;
+    private final List<Node> nodes;
+
+    private long earliestStartNanos;
+    private long slackNanos;
+    private boolean critical;
+
+    private Node(SingletonInstance instance, int[] dependencies, List<Node> nodes) {
+      this.type = instance.instance.getClass();
+      this.constructionNanos = instance.constructionNanos;
+      this.listenerNanos = instance.listenerNanos;
+      this.initializationNanos = instance.initializationNanos;
+      this.dependencies = dependencies;
+      this.nodes = nodes;
+    }
+
+    public @NotNull Class<?> getType() {
+      return type;
+    }
+
+    public long getConstructionNanos() {
+      return constructionNanos;
+    }
+
+    public long getListenerNanos() {
+      return listenerNanos;
+    }
+
+    public long getInitializationNanos() {
+      return initializationNanos;
+    }
+
+    /**
+     * Get the sum of the construction, listener and initialization durations
+     */
+    public long getWeightNanos() {
+      return constructionNanos + listenerNanos + initializationNanos;
+    }
+
+    /**
+     * Get the earliest point in time, relative to the start of wiring, at which the singleton could
+     * have been constructed, if all of its dependencies were constructed as early as possible
+     */
+    public long getEarliestStartNanos() {
+      return earliestStartNanos;
+    }
+
+    /**
+     * Get how much longer the singleton could take without extending the critical path
+     */
+    public long getSlackNanos() {
+      return slackNanos;
+    }
+
+    /**
+     * Whether the singleton is on the critical path
+     */
+    public boolean isCritical() {
+      return critical;
+    }
+
+    /**
+     * Get the singletons this singleton has been constructed with
+     */
+    public @NotNull List<Node> getDependencies() {
+      List<Node> result = new ArrayList<>(dependencies.length);
+
+      for (int dependency : dependencies)
+        result.add(nodes.get(dependency));
+
+      return result;
+    }
+  }
+}
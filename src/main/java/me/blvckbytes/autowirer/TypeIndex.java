@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Indexes values under the type they have been added with, as well as under all
+ * of its superclasses and interfaces. Looking up all values which are assignable
+ * to a given type thereby becomes a single hash probe.
+ * <p>
+ * Buckets grow in place by doubling their capacity, so adding to a bucket takes amortized
+ * constant time, even for buckets shared by all values, as the one of {@code Object}. Their
+ * size is published only after the added value, which allows lookups to be performed
+ * concurrently to modifications, without locking. Removals replace the bucket by a copy.
+ *
+ * @param <V> Type of the indexed values
+ */
+final class TypeIndex<V> {
+
+  private static final ClassValue<Class<?>[]> SUPERTYPES = new ClassValue<>() {
+    @Override
+    protected Class<?>[] computeValue(@NotNull Class<?> type) {
+      Set<Class<?>> supertypes = new LinkedHashSet<>();
+      collectSupertypes(type, supertypes);
+      return supertypes.toArray(new Class<?>[0]);
+    }
+  };
+
+  private final Map<Class<?>, Bucket<V>> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * Adds a value under the given type and all of its supertypes, keeping insertion order
+   * within each bucket.
+   *
+   * @param type Type to index the value under
+   * @param value Value to be indexed
+   */
+  synchronized void add(@NotNull Class<?> type, @NotNull V value) {
+    for (Class<?> supertype : SUPERTYPES.get(type)) {
+      Bucket<V> bucket = buckets.get(supertype);
+
+      if (bucket == null)
+        buckets.put(supertype, new Bucket<>(new Object[] { value }, 1));
+      else
+        bucket.append(value);
+    }
+  }
+
+  /**
+   * Removes a previously added value (by identity) from the given type and all of its supertypes.
+   *
+   * @param type Type the value has been indexed under
+   * @param value Value to be removed
+   */
+  synchronized void remove(@NotNull Class<?> type, @NotNull V value) {
+    for (Class<?> supertype : SUPERTYPES.get(type)) {
+      Bucket<V> bucket = buckets.get(supertype);
+
+      if (bucket == null)
+        continue;
+
+      Bucket<V> remaining = bucket.without(value);
+
+      if (remaining == null)
+        buckets.remove(supertype);
+      else
+        buckets.put(supertype, remaining);
+    }
+  }
+
+  /**
+   * Get all values which have been added with a type assignable to the requested type
+   *
+   * @param type Type to look up
+   * @return Bucket of values in insertion order, null if there are none
+   */
+  @Nullable Bucket<V> get(@NotNull Class<?> type) {
+    return buckets.get(type);
+  }
+
+  /**
+   * Creates an immutable copy of this index, mapping every type to the result of the mapper for its bucket
+   *
+   * @param mapper Mapper which is called once per non-empty bucket
+   * @param <R> Type of the mapped values
+   */
+  synchronized <R> Map<Class<?>, R> snapshot(@NotNull Function<Bucket<V>, R> mapper) {
+    Map<Class<?>, R> result = new HashMap<>(buckets.size() * 2);
+
+    for (Map.Entry<Class<?>, Bucket<V>> entry : buckets.entrySet())
+      result.put(entry.getKey(), mapper.apply(entry.getValue()));
+
+    return Map.copyOf(result);
+  }
+
+  synchronized void clear() {
+    buckets.clear();
+  }
+
+  /**
+   * Get the closure of all supertypes of a type, including the type itself. The result
+   * is computed once per class and must not be modified by the caller.
+   */
+  static Class<?>[] supertypesOf(@NotNull Class<?> type) {
+    return SUPERTYPES.get(type);
+  }
+
+  private static void collectSupertypes(@Nullable Class<?> type, Set<Class<?>> output) {
+    if (type == null || !output.add(type))
+      return;
+
+    collectSupertypes(type.getSuperclass(), output);
+
+    for (Class<?> implemented : type.getInterfaces())
+      collectSupertypes(implemented, output);
+  }
+
+  static final class Bucket<V> {
+
+    // Slots up to the size are immutable, while the array is only replaced by a larger copy
+    private volatile Object[] values;
+    private volatile int size;
+
+    private Bucket(Object[] values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    /**
+     * Appends a value, while holding the lock of the index
+     */
+    private void append(V value) {
+      Object[] current = values;
+      int currentSize = size;
+
+      if (currentSize == current.length)
+        values = current = Arrays.copyOf(current, currentSize * 2);
+
+      current[currentSize] = value;
+      size = currentSize + 1;
+    }
+
+    private @Nullable Bucket<V> without(V value) {
+      Object[] current = values;
+      int currentSize = size;
+
+      for (int i = 0; i < currentSize; i++) {
+        if (current[i] != value)
+          continue;
+
+        if (currentSize == 1)
+          return null;
+
+        Object[] remaining = new Object[currentSize - 1];
+        System.arraycopy(current, 0, remaining, 0, i);
+        System.arraycopy(current, i + 1, remaining, i, currentSize - i - 1);
+        return new Bucket<>(remaining, remaining.length);
+      }
+
+      return this;
+    }
+
+    int size() {
+      return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int index) {
+      return (V) values[index];
+    }
+  }
+}
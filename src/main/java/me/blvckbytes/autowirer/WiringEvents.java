@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder events of all wiring phases, which are disabled by default and can be enabled
+ * within the recording settings by their names, for example {@code me.blvckbytes.autowirer.Wire}.
+ * Their durations are captured by the event itself, between {@code begin} and {@code commit}.
+ */
+final class WiringEvents {
+
+  private static final String CATEGORY = "AutoWirer";
+
+  private WiringEvents() {}
+
+  @Name("me.blvckbytes.autowirer.Wire")
+  @Label("Wire")
+  @Description("Execution of a wiring plan, from instantiation up to initialization")
+  @Category(CATEGORY)
+  @Enabled(false)
+  static final class Wire extends Event {
+
+    @Label("Bindings")
+    int bindings;
+  }
+
+  @Name("me.blvckbytes.autowirer.Instantiation")
+  @Label("Instantiation")
+  @Description("Invocation of the constructor of a class")
+  @Category(CATEGORY)
+  @Enabled(false)
+  static final class Instantiation extends Event {
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Parent Type")
+    @Description("Class whose construction required the instance, absent for top-level requests such as prototypes and lazy singletons")
+    Class<?> parentType;
+  }
+
+  @Name("me.blvckbytes.autowirer.InstantiationListeners")
+  @Label("Instantiation Listeners")
+  @Description("Dispatch of all instantiation listeners applicable to a new instance")
+  @Category(CATEGORY)
+  @Enabled(false)
+  static final class InstantiationListeners extends Event {
+
+    @Label("Type")
+    Class<?> type;
+  }
+
+  @Name("me.blvckbytes.autowirer.Initialization")
+  @Label("Initialization")
+  @Description("Call of IInitializable#initialize")
+  @Category(CATEGORY)
+  @Enabled(false)
+  static final class Initialization extends Event {
+
+    @Label("Type")
+    Class<?> type;
+  }
+
+  @Name("me.blvckbytes.autowirer.Cleanup")
+  @Label("Cleanup")
+  @Description("Call of ICleanable#cleanup")
+  @Category(CATEGORY)
+  @Enabled(false)
+  static final class Cleanup extends Event {
+
+    @Label("Type")
+    Class<?> type;
+  }
+}
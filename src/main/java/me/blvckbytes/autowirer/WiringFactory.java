@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+/**
+ * Reflection-free factory for a class annotated by {@link AutoWire}, generated at compile
+ * time under the binary name of the class, suffixed by {@link #CLASS_NAME_SUFFIX}.
+ *
+ * @param <T> Type of the constructed class
+ */
+public interface WiringFactory<T> {
+
+  String CLASS_NAME_SUFFIX = "_WiringFactory";
+
+  /**
+   * Get the types of all constructor parameters in order
+   */
+  Class<?>[] getParameterTypes();
+
+  /**
+   * Create a new instance by directly invoking the constructor
+   *
+   * @param arguments Constructor arguments, matching {@link #getParameterTypes()}, which are only
+   *                  read, as the same array may be passed to multiple calls
+   */
+  T create(Object[] arguments) throws Exception;
+
+}
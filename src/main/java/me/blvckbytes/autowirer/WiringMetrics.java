@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timings and lookup counts recorded per bound class by an {@link AutoWirer} which has
+ * metrics enabled. Metrics are keyed by the concrete class of the instances.
+ */
+public final class WiringMetrics {
+
+  private final Map<Class<?>, BindingMetrics> bindings = new ConcurrentHashMap<>();
+
+  /**
+   * Get the metrics of a class, creating them if this is the first record
+   */
+  BindingMetrics of(@NotNull Class<?> type) {
+    BindingMetrics metrics = bindings.get(type);
+
+    if (metrics != null)
+      return metrics;
+
+    return bindings.computeIfAbsent(type, BindingMetrics::new);
+  }
+
+  /**
+   * Get the metrics of a class
+   *
+   * @param type Concrete class of the instance
+   * @return Metrics of the class, null if nothing has been recorded for it
+   */
+  public @Nullable BindingMetrics get(@NotNull Class<?> type) {
+    return bindings.get(type);
+  }
+
+  /**
+   * Get the metrics of all classes which have been recorded so far
+   */
+  public @NotNull Collection<BindingMetrics> getBindings() {
+    return Collections.unmodifiableCollection(bindings.values());
+  }
+
+  /**
+   * Get the metrics of all classes, sorted by the total time spent on them in descending order
+   */
+  public @NotNull List<BindingMetrics> getSlowest() {
+    List<BindingMetrics> result = new ArrayList<>(bindings.values());
+    result.sort(Comparator.comparingLong(BindingMetrics::getTotalNanos).reversed());
+    return result;
+  }
+
+  /**
+   * Discards all recorded metrics
+   */
+  public void reset() {
+    bindings.clear();
+  }
+}
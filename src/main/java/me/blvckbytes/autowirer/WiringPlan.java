@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Compiled form of all bindings of an {@link AutoWirer}, where every binding is a node and every
+ * constructor parameter has been resolved ahead of time. Nodes are sorted topologically, in the
+ * same order as sequential wiring would instantiate them, and arguments refer to other nodes by
+ * index. Executing a plan thereby only indexes arrays and invokes constructors.
+ * <p>
+ * A plan is immutable and may be executed any number of times, by any container.
+ */
+public final class WiringPlan {
+
+  final Class<?>[] types;
+  final ConstructorInfo[] constructorInfos;
+  final boolean[] lazy;
+
+  // Per node and constructor parameter, either the index of the providing node, which
+  // is always lower than the node's own index, or the bitwise complement of an external slot
+  final int[][] arguments;
+
+  // Types which are resolved by instance lookup once per execution
+  final Class<?>[] externalTypes;
+
+  // Nodes grouped by their distance to the farthest dependency-free node
+  final int[][] levels;
+
+  // Per node, the first node which takes it as an argument, or -1 if there is none
+  final int[] firstDependents;
+
+  /**
+   * Creates a plan from nodes which are already sorted topologically and computes their levels.
+   *
+   * @param types Bound types per node
+   * @param constructorInfos Constructor info per node
+   * @param lazy Whether the node is a lazy singleton, per node
+   * @param arguments Providing node per node and constructor parameter, or the bitwise complement of an external slot
+   * @param externalTypes Types of all external slots
+   */
+  WiringPlan(
+    @NotNull Class<?>[] types,
+    @NotNull ConstructorInfo[] constructorInfos,
+    boolean @NotNull [] lazy,
+    int[] @NotNull [] arguments,
+    @NotNull Class<?>[] externalTypes
+  ) {
+    this.types = types;
+    this.constructorInfos = constructorInfos;
+    this.lazy = lazy;
+    this.arguments = arguments;
+    this.externalTypes = externalTypes;
+
+    int[] nodeLevels = new int[types.length];
+    int maxLevel = 0;
+
+    this.firstDependents = new int[types.length];
+    Arrays.fill(this.firstDependents, -1);
+
+    for (int node = 0; node < types.length; node++) {
+      int level = 0;
+
+      for (int argument : arguments[node]) {
+        if (argument < 0)
+          continue;
+
+        level = Math.max(level, nodeLevels[argument] + 1);
+
+        if (firstDependents[argument] < 0)
+          firstDependents[argument] = node;
+      }
+
+      nodeLevels[node] = level;
+      maxLevel = Math.max(maxLevel, level);
+    }
+
+    int[] levelSizes = new int[types.length == 0 ? 0 : maxLevel + 1];
+    for (int level : nodeLevels)
+      ++levelSizes[level];
+
+    this.levels = new int[levelSizes.length][];
+    for (int level = 0; level < levelSizes.length; level++)
+      this.levels[level] = new int[levelSizes[level]];
+
+    Arrays.fill(levelSizes, 0);
+    for (int node = 0; node < types.length; node++)
+      this.levels[nodeLevels[node]][levelSizes[nodeLevels[node]]++] = node;
+  }
+
+  /**
+   * Compiles a plan by sorting the nodes topologically. Edges which would close a
+   * cycle are reported and turned into lookups of the respective external type.
+   *
+   * @param types Bound types in registration order
+   * @param constructorInfos Constructor info per node
+   * @param lazy Whether the node is a lazy singleton, per node
+   * @param parameterNodes Providing node per node and constructor parameter, in registration
+   *                       order, or the bitwise complement of an external slot
+   * @param externalTypes Types of all external slots
+   * @param logger Logger to report circular dependencies to
+   */
+  static WiringPlan compile(
+    @NotNull Class<?>[] types,
+    @NotNull ConstructorInfo[] constructorInfos,
+    boolean @NotNull [] lazy,
+    int[] @NotNull [] parameterNodes,
+    @NotNull Class<?>[] externalTypes,
+    @NotNull Logger logger
+  ) {
+    int nodeCount = types.length;
+    int[] order = new int[nodeCount];
+
+    externalTypes = computeOrder(types, constructorInfos, parameterNodes, externalTypes, order, logger);
+
+    int[] positions = new int[nodeCount];
+    for (int position = 0; position < nodeCount; position++)
+      positions[order[position]] = position;
+
+    Class<?>[] sortedTypes = new Class<?>[nodeCount];
+    ConstructorInfo[] sortedConstructorInfos = new ConstructorInfo[nodeCount];
+    boolean[] sortedLazy = new boolean[nodeCount];
+    int[][] arguments = new int[nodeCount][];
+
+    for (int position = 0; position < nodeCount; position++) {
+      int node = order[position];
+      int[] nodeArguments = parameterNodes[node].clone();
+
+      for (int i = 0; i < nodeArguments.length; i++) {
+        if (nodeArguments[i] >= 0)
+          nodeArguments[i] = positions[nodeArguments[i]];
+      }
+
+      sortedTypes[position] = types[node];
+      sortedConstructorInfos[position] = constructorInfos[node];
+      sortedLazy[position] = lazy[node];
+      arguments[position] = nodeArguments;
+    }
+
+    return new WiringPlan(sortedTypes, sortedConstructorInfos, sortedLazy, arguments, externalTypes);
+  }
+
+  /**
+   * Get the type of the first node which takes the given node as an argument, which is the
+   * node whose construction required it, or null if no other node depends on it
+   */
+  @Nullable Class<?> parentTypeOf(int node) {
+    int dependent = firstDependents[node];
+    return dependent < 0 ? null : types[dependent];
+  }
+
+  /**
+   * Get the number of nodes within this plan
+   */
+  public int size() {
+    return types.length;
+  }
+
+  /**
+   * Iterative depth-first post-order traversal in registration order, which mirrors the
+   * recursion of sequential wiring while not being limited by the depth of the graph.
+   *
+   * @return External types, extended by the types of edges which closed a cycle
+   */
+  private static Class<?>[] computeOrder(
+    Class<?>[] types,
+    ConstructorInfo[] constructorInfos,
+    int[][] parameterNodes,
+    Class<?>[] externalTypes,
+    int[] order,
+    Logger logger
+  ) {
+    final byte unvisited = 0, visiting = 1, visited = 2;
+
+    byte[] states = new byte[types.length];
+    int[] nodeStack = new int[types.length];
+    int[] parameterStack = new int[types.length];
+    int orderSize = 0;
+
+    for (int root = 0; root < types.length; root++) {
+      if (states[root] != unvisited)
+        continue;
+
+      int depth = 0;
+      nodeStack[0] = root;
+      parameterStack[0] = 0;
+      states[root] = visiting;
+
+      while (depth >= 0) {
+        int node = nodeStack[depth];
+        int[] parameters = parameterNodes[node];
+
+        if (parameterStack[depth] < parameters.length) {
+          int parameter = parameterStack[depth]++;
+          int dependency = parameters[parameter];
+
+          if (dependency < 0 || states[dependency] == visited)
+            continue;
+
+          if (states[dependency] == visiting) {
+            logger.severe("Circular dependency detected: " + types[dependency] + " of parent class " + types[node]);
+
+            externalTypes = Arrays.copyOf(externalTypes, externalTypes.length + 1);
+            externalTypes[externalTypes.length - 1] = constructorInfos[node].parameters[parameter];
+            parameters[parameter] = ~(externalTypes.length - 1);
+            continue;
+          }
+
+          states[dependency] = visiting;
+          nodeStack[++depth] = dependency;
+          parameterStack[depth] = 0;
+          continue;
+        }
+
+        states[node] = visited;
+        order[orderSize++] = node;
+        --depth;
+      }
+    }
+
+    return externalTypes;
+  }
+}
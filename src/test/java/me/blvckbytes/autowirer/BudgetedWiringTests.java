@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BudgetedWiringTests {
+
+  public static class Config {}
+
+  public static class Database implements IInitializable {
+    boolean initialized;
+
+    public Database(Config config) {}
+
+    @Override
+    public void initialize() {
+      initialized = true;
+    }
+  }
+
+  public static class Service {
+    public Service(Database database) {}
+  }
+
+  public static class Late {}
+
+  public static class Failing implements IInitializable {
+    @Override
+    public void initialize() {
+      throw new IllegalStateException("initialization failed");
+    }
+  }
+
+  /**
+   * Keeps the step, such that tests decide when ticks happen
+   */
+  private static final class ManualDriver implements TickDriver {
+    private BooleanSupplier step;
+
+    @Override
+    public void everyTick(BooleanSupplier step) {
+      this.step = step;
+    }
+
+    int runToCompletion() {
+      int ticks = 1;
+
+      while (step.getAsBoolean())
+        ++ticks;
+
+      return ticks;
+    }
+  }
+
+  @Test
+  public void shouldSpreadWiringAcrossTicks() {
+    ManualDriver driver = new ManualDriver();
+    int[] successes = new int[1];
+
+    AutoWirer autoWirer = addBindings(new AutoWirer())
+      .wireBudgeted(driver, Duration.ZERO, result -> ++successes[0]);
+
+    assertFalse(autoWirer.findInstance(Config.class).isPresent());
+
+    assertTrue(driver.runToCompletion() > 1);
+    assertEquals(1, successes[0]);
+    assertTrue(autoWirer.findInstance(Database.class).orElseThrow().initialized);
+    assertTrue(autoWirer.findInstance(Service.class).isPresent());
+  }
+
+  @Test
+  public void shouldRejectWiringWhileInProgress() {
+    ManualDriver driver = new ManualDriver();
+    AutoWirer autoWirer = addBindings(new AutoWirer()).wireBudgeted(driver, Duration.ZERO, null);
+
+    assertThrows(IllegalStateException.class, () -> autoWirer.wire(null));
+    assertThrows(IllegalStateException.class, () -> autoWirer.wireAsync(Runnable::run));
+    assertThrows(IllegalStateException.class, () -> autoWirer.wireBudgeted(new ManualDriver(), Duration.ZERO, null));
+
+    driver.step.getAsBoolean();
+    driver.step.getAsBoolean();
+    assertThrows(IllegalStateException.class, () -> autoWirer.rewire(Config.class));
+
+    driver.runToCompletion();
+    assertDoesNotThrow(() -> autoWirer.rewire(Config.class));
+  }
+
+  @Test
+  public void shouldCompileThePlanWhenStarting() {
+    ManualDriver driver = new ManualDriver();
+    AutoWirer autoWirer = addBindings(new AutoWirer()).wireBudgeted(driver, Duration.ZERO, null);
+
+    autoWirer.addSingleton(Late.class);
+    driver.runToCompletion();
+
+    assertTrue(autoWirer.findInstance(Service.class).isPresent());
+    assertFalse(autoWirer.findInstance(Late.class).isPresent());
+  }
+
+  @Test
+  public void shouldAllowWiringAgainOnceAborted() {
+    ManualDriver driver = new ManualDriver();
+    Exception[] thrown = new Exception[1];
+
+    AutoWirer autoWirer = new AutoWirer()
+      .onException(exception -> thrown[0] = exception)
+      .addSingleton(Failing.class)
+      .wireBudgeted(driver, Duration.ofSeconds(1), null);
+
+    driver.runToCompletion();
+    assertNotNull(thrown[0]);
+
+    assertDoesNotThrow(() -> autoWirer.wireBudgeted(new ManualDriver(), Duration.ZERO, null));
+  }
+
+  private static AutoWirer addBindings(AutoWirer autoWirer) {
+    return autoWirer
+      .addSingleton(Service.class)
+      .addSingleton(Database.class)
+      .addSingleton(Config.class);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChildAutoWirerTests {
+
+  public interface IConfig {}
+
+  public static class ParentConfig implements IConfig {}
+
+  public static class ChildConfig implements IConfig {}
+
+  public static class Shared {}
+
+  public static class Database {
+    public Database(Shared shared) {}
+  }
+
+  public record Arena(IConfig config, Shared shared) {}
+
+  @Test
+  public void shouldPreferLocalBindingsOverTheParent() {
+    AutoWirer parent = new AutoWirer()
+      .addSingleton(ParentConfig.class)
+      .addSingleton(Shared.class)
+      .wire(null);
+
+    AutoWirer child = parent.createChild()
+      .addSingleton(ChildConfig.class)
+      .addSingleton(Arena.class)
+      .wire(null);
+
+    Arena arena = child.findInstance(Arena.class).orElseThrow();
+
+    assertInstanceOf(ChildConfig.class, arena.config());
+    assertInstanceOf(ChildConfig.class, child.findInstance(IConfig.class).orElseThrow());
+    assertInstanceOf(ParentConfig.class, parent.findInstance(IConfig.class).orElseThrow());
+    assertSame(parent.findInstance(Shared.class).orElseThrow(), arena.shared());
+  }
+
+  @Test
+  public void shouldResolveSingletonsOfTheParentWithoutCreatingThem() {
+    AutoWirer parent = new AutoWirer()
+      .addSingleton(Shared.class)
+      .addSingleton(Database.class)
+      .wire(null);
+
+    AutoWirer child = parent.createChild().wire(null);
+    int childInstances = child.getInstancesCount();
+
+    assertSame(parent.findInstance(Shared.class).orElseThrow(), child.getOrInstantiateClass(Shared.class, true));
+    assertSame(parent.findInstance(Database.class).orElseThrow(), child.getOrInstantiateClass(Database.class, true));
+    assertEquals(childInstances, child.getInstancesCount());
+  }
+
+  @Test
+  public void shouldCreateConcurrentChildrenOfConcurrentAutoWirers() {
+    assertInstanceOf(ConcurrentAutoWirer.class, new ConcurrentAutoWirer().createChild());
+  }
+}
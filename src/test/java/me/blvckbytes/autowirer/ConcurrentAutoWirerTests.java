@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentAutoWirerTests {
+
+  public static class Slow {
+    static final AtomicInteger constructions = new AtomicInteger();
+    static volatile CountDownLatch started = new CountDownLatch(1);
+
+    public Slow() throws InterruptedException {
+      constructions.incrementAndGet();
+      started.countDown();
+      Thread.sleep(100);
+    }
+  }
+
+  public static class Fast {}
+
+  public static class Dependent {
+    public Dependent(Slow slow, Fast fast) {}
+  }
+
+  @Test
+  public void shouldConstructSingletonsOnceUnderContention() throws Exception {
+    Slow.constructions.set(0);
+
+    AutoWirer autoWirer = new ConcurrentAutoWirer();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<Slow>> results = new ArrayList<>();
+
+      for (int i = 0; i < 8; i++)
+        results.add(executor.submit(() -> autoWirer.getOrInstantiateClass(Slow.class, true)));
+
+      Slow first = results.get(0).get();
+
+      for (Future<Slow> result : results)
+        assertSame(first, result.get());
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(1, Slow.constructions.get());
+  }
+
+  @Test
+  public void shouldConstructSingletonsOnceWhileWiringInParallel() throws Exception {
+    Slow.constructions.set(0);
+    Slow.started = new CountDownLatch(1);
+
+    AutoWirer autoWirer = new ConcurrentAutoWirer()
+      .parallelWiring()
+      .addSingleton(Dependent.class)
+      .addSingleton(Slow.class)
+      .addSingleton(Fast.class);
+
+    CompletableFuture<AutoWirer> wiring = CompletableFuture.supplyAsync(() -> autoWirer.wire(null));
+
+    assertTrue(Slow.started.await(5, TimeUnit.SECONDS));
+    Slow concurrent = autoWirer.getOrInstantiateClass(Slow.class, true);
+    wiring.get(5, TimeUnit.SECONDS);
+
+    assertEquals(1, Slow.constructions.get());
+    assertSame(concurrent, autoWirer.findInstance(Slow.class).orElseThrow());
+    assertTrue(autoWirer.findInstance(Dependent.class).isPresent());
+  }
+}
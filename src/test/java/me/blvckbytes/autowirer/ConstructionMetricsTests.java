@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConstructionMetricsTests {
+
+  public static class Config {}
+
+  public static class Database {
+    public Database(Config config) {}
+  }
+
+  public static class Absent {}
+
+  @Test
+  public void shouldToleratePassingNullFromGeneratorsWithoutMetrics() {
+    assertToleratesNullGenerator(false);
+  }
+
+  @Test
+  public void shouldToleratePassingNullFromGeneratorsWithMetrics() {
+    BindingMetrics bindingMetrics = assertToleratesNullGenerator(true).get(Absent.class);
+
+    assertNotNull(bindingMetrics);
+    assertEquals(0, bindingMetrics.getInitializationNanos());
+  }
+
+  private WiringMetrics assertToleratesNullGenerator(boolean recordMetrics) {
+    boolean[] wired = new boolean[1];
+
+    AutoWirer autoWirer = new AutoWirer()
+      .recordMetrics(recordMetrics)
+      .addSingleton(Config.class)
+      .addSingleton(Absent.class, arguments -> null, null)
+      .addSingleton(Database.class)
+      .wire(result -> wired[0] = true);
+
+    assertTrue(wired[0]);
+    assertFalse(autoWirer.findInstance(Absent.class).isPresent());
+    assertTrue(autoWirer.findInstance(Config.class).isPresent());
+    assertTrue(autoWirer.findInstance(Database.class).isPresent());
+
+    if (recordMetrics)
+      assertNotNull(autoWirer.getMetrics());
+
+    return autoWirer.getMetrics();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FreezeTests {
+
+  public interface Storage {}
+
+  public static class FileStorage implements Storage {}
+
+  public static class MemoryStorage implements Storage {}
+
+  public static class Config {}
+
+  public static class Request {
+    final Config config;
+
+    public Request(Config config) {
+      this.config = config;
+    }
+  }
+
+  @Test
+  public void shouldRejectModificationsOnceFrozen() throws Exception {
+    AutoWirer autoWirer = new AutoWirer().addSingleton(Config.class);
+    autoWirer.wire(null);
+    autoWirer.freeze();
+
+    assertTrue(autoWirer.isFrozen());
+    assertThrows(IllegalStateException.class, () -> autoWirer.addSingleton(FileStorage.class));
+    assertThrows(IllegalStateException.class, () -> autoWirer.addExistingSingleton(new FileStorage()));
+    assertThrows(IllegalStateException.class, () -> autoWirer.addInstantiationListener(Config.class, (instance, dependencies) -> {}));
+  }
+
+  @Test
+  public void shouldLookUpInstancesBySupertypes() throws Exception {
+    AutoWirer autoWirer = new AutoWirer()
+      .addSingleton(FileStorage.class)
+      .freezeAfterWire(true);
+
+    autoWirer.wire(null);
+
+    assertTrue(autoWirer.isFrozen());
+    assertSame(autoWirer.findInstance(FileStorage.class).orElseThrow(), autoWirer.findInstance(Storage.class).orElseThrow());
+    assertSame(autoWirer, autoWirer.findInstance(AutoWirer.class).orElseThrow());
+  }
+
+  @Test
+  public void shouldNotResolveAmbiguousInstances() throws Exception {
+    AutoWirer autoWirer = new AutoWirer()
+      .addSingleton(FileStorage.class)
+      .addSingleton(MemoryStorage.class);
+
+    autoWirer.wire(null);
+    autoWirer.freeze();
+
+    assertFalse(autoWirer.findInstance(Storage.class).isPresent());
+    assertTrue(autoWirer.findInstance(MemoryStorage.class).isPresent());
+  }
+
+  @Test
+  public void shouldCreatePrototypesOfExistingSingletons() throws Exception {
+    AutoWirer autoWirer = new AutoWirer().addSingleton(Config.class);
+    autoWirer.wire(null);
+    autoWirer.freeze();
+
+    Request request = autoWirer.getOrInstantiateClass(Request.class, false);
+
+    assertNotNull(request);
+    assertSame(autoWirer.findInstance(Config.class).orElseThrow(), request.config);
+    assertFalse(autoWirer.findInstance(Request.class).isPresent());
+  }
+
+  @Test
+  public void shouldUnfreezeOnCleanup() throws Exception {
+    AutoWirer autoWirer = new AutoWirer().addSingleton(Config.class);
+    autoWirer.wire(null);
+    autoWirer.freeze();
+    autoWirer.cleanup();
+
+    assertFalse(autoWirer.isFrozen());
+    assertFalse(autoWirer.findInstance(Config.class).isPresent());
+
+    autoWirer.addSingleton(FileStorage.class).wire(null);
+    assertTrue(autoWirer.findInstance(Storage.class).isPresent());
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstantiationListenerTests {
+
+  public interface Named {}
+
+  public static class Base {}
+
+  public static class Command extends Base implements Named {}
+
+  @Test
+  public void shouldCallListenersOfAllSupertypesInOrderOfRegistration() throws Exception {
+    List<String> calls = new CopyOnWriteArrayList<>();
+
+    new AutoWirer()
+      .addInstantiationListener(Named.class, (instance, dependencies) -> calls.add("Named"))
+      .addInstantiationListener(Base.class, (instance, dependencies) -> calls.add("Base"))
+      .addInstantiationListener(Command.class, (instance, dependencies) -> calls.add("Command"))
+      .addInstantiationListener(String.class, (instance, dependencies) -> calls.add("String"))
+      .addSingleton(Command.class)
+      .wire(null);
+
+    assertEquals(List.of("Named", "Base", "Command"), calls);
+  }
+
+  @Test
+  public void shouldCallListenersAddedAfterTheClassHasBeenInstantiated() throws Exception {
+    List<String> calls = new CopyOnWriteArrayList<>();
+
+    AutoWirer autoWirer = new AutoWirer()
+      .addInstantiationListener(Command.class, (instance, dependencies) -> calls.add("first"))
+      .addSingleton(Command.class);
+
+    autoWirer.wire(null);
+    assertEquals(List.of("first"), calls);
+
+    autoWirer.addInstantiationListener(Named.class, (instance, dependencies) -> calls.add("second"));
+    autoWirer.getOrInstantiateClass(Command.class, false);
+
+    assertEquals(List.of("first", "first", "second"), calls);
+  }
+}
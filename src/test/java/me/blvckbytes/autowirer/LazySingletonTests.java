@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazySingletonTests {
+
+  public interface IService {
+    String name();
+  }
+
+  public static class Service implements IService {
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    public Service() {
+      constructions.incrementAndGet();
+    }
+
+    @Override
+    public String name() {
+      return "service";
+    }
+  }
+
+  public static class FailingService implements IService, IInitializable {
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    public FailingService() {
+      constructions.incrementAndGet();
+    }
+
+    @Override
+    public void initialize() {
+      throw new IllegalStateException("initialization failed");
+    }
+
+    @Override
+    public String name() {
+      return "failing";
+    }
+  }
+
+  public static class Consumer {
+    final IService service;
+
+    public Consumer(IService service) {
+      this.service = service;
+    }
+  }
+
+  @Test
+  public void shouldCreateLazySingletonsOnFirstCall() throws Exception {
+    Service.constructions.set(0);
+
+    AutoWirer autoWirer = new AutoWirer()
+      .addLazySingleton(Service.class)
+      .addSingleton(Consumer.class);
+
+    autoWirer.wire(null);
+
+    IService service = autoWirer.findInstance(Consumer.class).orElseThrow().service;
+    assertEquals(0, Service.constructions.get());
+
+    assertEquals("service", service.name());
+    assertEquals("service", service.name());
+    assertEquals(1, Service.constructions.get());
+  }
+
+  @Test
+  public void shouldKeepTheProxyWhenWiringTwice() throws Exception {
+    AutoWirer autoWirer = new AutoWirer().addLazySingleton(Service.class);
+    autoWirer.wire(null);
+
+    IService service = autoWirer.findInstance(IService.class).orElseThrow();
+    assertEquals(2, autoWirer.getInstancesCount());
+
+    autoWirer.addSingleton(Consumer.class);
+    autoWirer.wire(null);
+
+    assertEquals(3, autoWirer.getInstancesCount());
+    assertSame(service, autoWirer.findInstance(IService.class).orElseThrow());
+    assertSame(service, autoWirer.findInstance(Consumer.class).orElseThrow().service);
+  }
+
+  @Test
+  public void shouldNotRecreateLazySingletonsWithFailedInitialization() throws Exception {
+    FailingService.constructions.set(0);
+    AtomicInteger listenerCalls = new AtomicInteger();
+
+    AutoWirer autoWirer = new AutoWirer()
+      .addInstantiationListener(FailingService.class, (instance, dependencies) -> listenerCalls.incrementAndGet())
+      .addLazySingleton(FailingService.class);
+
+    autoWirer.wire(null);
+
+    IService service = autoWirer.findInstance(IService.class).orElseThrow();
+
+    assertThrows(IllegalStateException.class, service::name);
+    assertThrows(IllegalStateException.class, service::name);
+    assertEquals(1, FailingService.constructions.get());
+    assertEquals(1, listenerCalls.get());
+  }
+}
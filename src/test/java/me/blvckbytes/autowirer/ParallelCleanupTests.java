@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelCleanupTests {
+
+  static final List<String> cleanedUp = new CopyOnWriteArrayList<>();
+  static volatile CyclicBarrier barrier;
+  static volatile CountDownLatch release;
+
+  public static class Config implements ICleanable {
+    @Override
+    public void cleanup() {
+      cleanedUp.add("Config");
+    }
+  }
+
+  public static class Database implements ICleanable {
+    public Database(Config config) {}
+
+    @Override
+    public void cleanup() {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+      cleanedUp.add("Database");
+    }
+  }
+
+  public static class Left implements ICleanable {
+    @Override
+    public void cleanup() {
+      await(barrier);
+      cleanedUp.add("Left");
+    }
+  }
+
+  public static class Right implements ICleanable {
+    @Override
+    public void cleanup() {
+      await(barrier);
+      cleanedUp.add("Right");
+    }
+  }
+
+  public static class Stuck implements ICleanable {
+    @Override
+    public void cleanup() {
+      try {
+        release.await();
+        cleanedUp.add("Stuck");
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Test
+  public void shouldCleanUpDependentsFirst() {
+    cleanedUp.clear();
+
+    cleanUpOnPool(new AutoWirer()
+      .addSingleton(Config.class)
+      .addSingleton(Database.class), null);
+
+    assertEquals(List.of("Database", "Config"), cleanedUp);
+  }
+
+  @Test
+  public void shouldCleanUpIndependentInstancesConcurrently() {
+    cleanedUp.clear();
+    barrier = new CyclicBarrier(2);
+
+    // Both cleanups wait on each other, which only completes if they run at the same time
+    cleanUpOnPool(new AutoWirer()
+      .addSingleton(Left.class)
+      .addSingleton(Right.class), null);
+
+    assertEquals(2, cleanedUp.size());
+  }
+
+  @Test
+  public void shouldStopWaitingOnceTheDeadlineElapsed() {
+    cleanedUp.clear();
+    release = new CountDownLatch(1);
+
+    try {
+      AutoWirer autoWirer = new AutoWirer()
+        .addSingleton(Config.class)
+        .addSingleton(Stuck.class);
+
+      long start = System.nanoTime();
+      cleanUpOnPool(autoWirer, Duration.ofMillis(100));
+
+      assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+      assertEquals(0, autoWirer.getInstancesCount());
+      assertFalse(cleanedUp.contains("Stuck"));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static void cleanUpOnPool(AutoWirer autoWirer, Duration deadline) {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      autoWirer.parallelCleanup(executor, deadline).wire(null);
+      autoWirer.cleanup();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (Exception exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelInitializationTests {
+
+  static final List<String> initialized = new CopyOnWriteArrayList<>();
+  static volatile CyclicBarrier barrier;
+
+  public static class Config implements IInitializable {
+    @Override
+    public void initialize() {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+      initialized.add("Config");
+    }
+  }
+
+  public static class Database implements IInitializable {
+    public Database(Config config) {}
+
+    @Override
+    public void initialize() {
+      initialized.add("Database");
+    }
+  }
+
+  public static class Left implements IInitializable {
+    @Override
+    public void initialize() {
+      await(barrier);
+      initialized.add("Left");
+    }
+  }
+
+  public static class Right implements IInitializable {
+    @Override
+    public void initialize() {
+      await(barrier);
+      initialized.add("Right");
+    }
+  }
+
+  public static class Failing implements IInitializable {
+    @Override
+    public void initialize() {
+      throw new IllegalStateException("initialization failed");
+    }
+  }
+
+  public static class Dependent implements IInitializable {
+    public Dependent(Failing failing) {}
+
+    @Override
+    public void initialize() {
+      initialized.add("Dependent");
+    }
+  }
+
+  @Test
+  public void shouldInitializeAfterDependencies() {
+    initialized.clear();
+
+    wireOnPool(new AutoWirer()
+      .addSingleton(Database.class)
+      .addSingleton(Config.class));
+
+    assertEquals(List.of("Config", "Database"), initialized);
+  }
+
+  @Test
+  public void shouldInitializeIndependentInstancesConcurrently() {
+    initialized.clear();
+    barrier = new CyclicBarrier(2);
+
+    // Both initializers wait on each other, which only completes if they run at the same time
+    wireOnPool(new AutoWirer()
+      .addSingleton(Left.class)
+      .addSingleton(Right.class));
+
+    assertEquals(2, initialized.size());
+  }
+
+  @Test
+  public void shouldSkipDependentsOfFailedInitializers() {
+    initialized.clear();
+    Exception[] thrown = new Exception[1];
+
+    wireOnPool(new AutoWirer()
+      .onException(exception -> thrown[0] = exception)
+      .addSingleton(Failing.class)
+      .addSingleton(Dependent.class)
+      .addSingleton(Config.class));
+
+    assertNotNull(thrown[0]);
+    assertEquals("initialization failed", thrown[0].getCause().getMessage());
+    assertEquals(1, thrown[0].getSuppressed().length);
+    assertEquals(List.of("Config"), initialized);
+  }
+
+  private static void wireOnPool(AutoWirer autoWirer) {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      autoWirer.parallelInitialization(executor).wire(null);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (Exception exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelWiringTests {
+
+  public static class Config {}
+
+  public static class Database {
+    static final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    public Database(Config config) throws InterruptedException {
+      threads.add(Thread.currentThread().getName());
+      Thread.sleep(50);
+    }
+  }
+
+  public static class Cache {
+    static final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    public Cache(Config config) throws InterruptedException {
+      threads.add(Thread.currentThread().getName());
+      Thread.sleep(50);
+    }
+  }
+
+  public static class Service {
+    public Service(Database database, Cache cache) {}
+  }
+
+  public static class Command {}
+
+  public static class CommandRegistry {
+    final List<Command> commands = new ArrayList<>();
+
+    public CommandRegistry() throws InterruptedException {
+      Thread.sleep(50);
+    }
+  }
+
+  @Test
+  public void shouldConstructIndependentSingletonsConcurrently() {
+    Database.threads.clear();
+    Cache.threads.clear();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      AutoWirer autoWirer = new AutoWirer()
+        .parallelWiring(executor)
+        .addSingleton(Service.class)
+        .addSingleton(Database.class)
+        .addSingleton(Cache.class)
+        .addSingleton(Config.class)
+        .wire(null);
+
+      assertTrue(autoWirer.findInstance(Service.class).isPresent());
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(1, Database.threads.size());
+    assertEquals(1, Cache.threads.size());
+    assertNotEquals(Database.threads, Cache.threads);
+  }
+
+  @Test
+  public void shouldCreateTheSameInstancesAsSequentialWiring() {
+    AutoWirer sequential = wireCommands(new AutoWirer());
+    AutoWirer parallel = wireCommands(new AutoWirer().parallelWiring());
+
+    assertEquals(sequential.getInstancesCount(), parallel.getInstancesCount());
+
+    for (AutoWirer autoWirer : List.of(sequential, parallel)) {
+      CommandRegistry registry = autoWirer.findInstance(CommandRegistry.class).orElseThrow();
+      assertEquals(List.of(autoWirer.findInstance(Command.class).orElseThrow()), registry.commands);
+    }
+  }
+
+  @Test
+  public void shouldCreateTheSameInstancesOnConcurrentAutoWirers() {
+    AutoWirer sequential = wireCommands(new ConcurrentAutoWirer());
+    AutoWirer parallel = wireCommands(new ConcurrentAutoWirer().parallelWiring());
+
+    assertEquals(sequential.getInstancesCount(), parallel.getInstancesCount());
+    assertTrue(parallel.findInstance(CommandRegistry.class).isPresent());
+  }
+
+  private static AutoWirer wireCommands(AutoWirer autoWirer) {
+    return autoWirer
+      .addInstantiationListener(Command.class, (command, dependencies) -> {
+        CommandRegistry registry = (CommandRegistry) dependencies[0];
+        registry.commands.add(command);
+      }, CommandRegistry.class)
+      .addSingleton(Command.class)
+      .addSingleton(CommandRegistry.class)
+      .wire(null);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrototypeFactoryTests {
+
+  public static class Config {}
+
+  @AutoWire
+  public static class Widget {
+    final Config config;
+
+    public Widget(Config config) {
+      this.config = config;
+    }
+  }
+
+  // Stands in for the factory the processor generates for Widget
+  public static class Widget_WiringFactory implements WiringFactory<Widget> {
+    static final List<Object[]> calls = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Class<?>[] getParameterTypes() {
+      return new Class<?>[] { Config.class };
+    }
+
+    @Override
+    public Widget create(Object[] arguments) {
+      calls.add(arguments);
+      return new Widget((Config) arguments[0]);
+    }
+  }
+
+  public static class Gadget {}
+
+  @Test
+  public void shouldCreateNewInstancesWithSingletonArguments() throws Exception {
+    AutoWirer autoWirer = new AutoWirer().addSingleton(Config.class);
+    autoWirer.wire(null);
+
+    Config config = autoWirer.findInstance(Config.class).orElseThrow();
+    PrototypeFactory<Widget> factory = autoWirer.prototypeFactory(Widget.class);
+
+    assertNotNull(factory);
+    assertSame(factory, autoWirer.prototypeFactory(Widget.class));
+
+    Widget first = factory.create();
+    Widget second = factory.create();
+
+    assertNotSame(first, second);
+    assertSame(config, first.config);
+    assertSame(config, second.config);
+  }
+
+  @Test
+  public void shouldShareArgumentsWithGeneratedFactories() throws Exception {
+    Widget_WiringFactory.calls.clear();
+
+    AutoWirer autoWirer = new AutoWirer().addSingleton(Config.class);
+    autoWirer.wire(null);
+
+    PrototypeFactory<Widget> factory = autoWirer.prototypeFactory(Widget.class);
+
+    assertNotNull(factory);
+    factory.create();
+    factory.create();
+
+    assertEquals(2, Widget_WiringFactory.calls.size());
+    assertSame(Widget_WiringFactory.calls.get(0), Widget_WiringFactory.calls.get(1));
+  }
+
+  @Test
+  public void shouldCopyArgumentsForGenerators() throws Exception {
+    List<Object[]> calls = new CopyOnWriteArrayList<>();
+
+    AutoWirer autoWirer = new AutoWirer()
+      .addSingleton(Config.class)
+      .addSingleton(Gadget.class, arguments -> {
+        calls.add(arguments);
+        return new Gadget();
+      }, null, Config.class);
+
+    autoWirer.wire(null);
+
+    PrototypeFactory<Gadget> factory = autoWirer.prototypeFactory(Gadget.class);
+
+    assertNotNull(factory);
+    factory.create();
+    factory.create();
+
+    assertEquals(3, calls.size());
+    assertNotSame(calls.get(1), calls.get(2));
+  }
+}
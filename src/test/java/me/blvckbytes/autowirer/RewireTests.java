@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RewireTests {
+
+  public static class Config {}
+
+  public static class Cache {}
+
+  public static class Database {
+    static final AtomicInteger constructions = new AtomicInteger();
+    static volatile boolean failing;
+    static volatile CountDownLatch started;
+    static volatile CountDownLatch proceed;
+
+    public Database(Config config) throws InterruptedException {
+      if (failing)
+        throw new IllegalStateException("database unavailable");
+
+      constructions.incrementAndGet();
+
+      CountDownLatch started = Database.started, proceed = Database.proceed;
+
+      if (started != null) {
+        started.countDown();
+        proceed.await();
+      }
+    }
+  }
+
+  public static class Service {
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    public Service(Database database) {
+      constructions.incrementAndGet();
+    }
+  }
+
+  @MainThread
+  public static class World implements IInitializable {
+    volatile Thread constructor = Thread.currentThread();
+    volatile Thread initializer;
+
+    public World(Database database) {}
+
+    @Override
+    public void initialize() {
+      initializer = Thread.currentThread();
+    }
+  }
+
+  public static class Link {}
+
+  @Test
+  public void shouldRecreateOnlyTransitiveDependents() throws Exception {
+    resetDatabase();
+
+    AutoWirer autoWirer = addBindings(new AutoWirer());
+    autoWirer.wire(null);
+
+    Config config = autoWirer.findInstance(Config.class).orElseThrow();
+    Cache cache = autoWirer.findInstance(Cache.class).orElseThrow();
+    Database database = autoWirer.findInstance(Database.class).orElseThrow();
+    Service service = autoWirer.findInstance(Service.class).orElseThrow();
+
+    autoWirer.rewire(Database.class);
+
+    assertSame(config, autoWirer.findInstance(Config.class).orElseThrow());
+    assertSame(cache, autoWirer.findInstance(Cache.class).orElseThrow());
+    assertNotSame(database, autoWirer.findInstance(Database.class).orElseThrow());
+    assertNotSame(service, autoWirer.findInstance(Service.class).orElseThrow());
+    assertEquals(5, autoWirer.getInstancesCount());
+  }
+
+  @Test
+  public void shouldSkipDependentsOfFailedSingletons() throws Exception {
+    resetDatabase();
+    Service.constructions.set(0);
+
+    AutoWirer autoWirer = addBindings(new AutoWirer());
+    autoWirer.wire(null);
+
+    Database.failing = true;
+
+    try {
+      autoWirer.rewire(Config.class);
+    } finally {
+      Database.failing = false;
+    }
+
+    assertTrue(autoWirer.findInstance(Config.class).isPresent());
+    assertTrue(autoWirer.findInstance(Cache.class).isPresent());
+    assertFalse(autoWirer.findInstance(Database.class).isPresent());
+    assertFalse(autoWirer.findInstance(Service.class).isPresent());
+    assertEquals(1, Service.constructions.get());
+  }
+
+  @Test
+  public void shouldLetConcurrentLookupsWaitForTheRewire() throws Exception {
+    resetDatabase();
+    Service.constructions.set(0);
+
+    AutoWirer autoWirer = addBindings(new ConcurrentAutoWirer());
+    autoWirer.wire(null);
+
+    Database.started = new CountDownLatch(1);
+    Database.proceed = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      Future<?> rewire = executor.submit(() -> autoWirer.rewire(Database.class));
+      assertTrue(Database.started.await(10, TimeUnit.SECONDS));
+
+      // The service has been removed, and is only to be created by the rewire
+      Future<Service> lookup = executor.submit(() -> autoWirer.getOrInstantiateClass(Service.class, true));
+
+      Thread.sleep(50);
+      assertFalse(lookup.isDone());
+
+      Database.proceed.countDown();
+      rewire.get(10, TimeUnit.SECONDS);
+
+      assertSame(autoWirer.findInstance(Service.class).orElseThrow(), lookup.get(10, TimeUnit.SECONDS));
+      assertEquals(2, Service.constructions.get());
+      assertEquals(2, Database.constructions.get());
+    } finally {
+      Database.started = null;
+      Database.proceed = null;
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldRewireLongChains() throws Exception {
+    byte[] template;
+
+    try (InputStream input = RewireTests.class.getResourceAsStream("RewireTests$Link.class")) {
+      template = input.readAllBytes();
+    }
+
+    AutoWirer autoWirer = new ConcurrentAutoWirer();
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    Class<?>[] links = new Class<?>[10_000];
+
+    // Each hidden class is a binding of its own, depending on the previous one
+    for (int i = 0; i < links.length; i++) {
+      @SuppressWarnings("unchecked")
+      Class<Object> link = (Class<Object>) lookup.defineHiddenClass(template, true).lookupClass();
+      links[i] = link;
+
+      Class<?>[] dependencies = i == 0 ? new Class<?>[0] : new Class<?>[] { links[i - 1] };
+      autoWirer.addSingleton(link, arguments -> link.getDeclaredConstructor().newInstance(), null, dependencies);
+    }
+
+    autoWirer.wire(null);
+
+    Object first = autoWirer.findInstance(links[0]).orElseThrow();
+    Object last = autoWirer.findInstance(links[links.length - 1]).orElseThrow();
+
+    autoWirer.rewire(links[0]);
+
+    assertNotSame(first, autoWirer.findInstance(links[0]).orElseThrow());
+    assertNotSame(last, autoWirer.findInstance(links[links.length - 1]).orElseThrow());
+    assertEquals(links.length + 1, autoWirer.getInstancesCount());
+  }
+
+  @Test
+  public void shouldRecreateMainThreadBindingsOnTheMainThread() throws Exception {
+    resetDatabase();
+
+    LinkedBlockingQueue<Runnable> mainThread = new LinkedBlockingQueue<>();
+    AutoWirer autoWirer = new AutoWirer()
+      .addSingleton(Config.class)
+      .addSingleton(Database.class)
+      .addSingleton(World.class);
+
+    runUntil(mainThread, autoWirer.wireAsync(mainThread::add));
+    runUntil(mainThread, CompletableFuture.runAsync(() -> autoWirer.rewire(Database.class)));
+
+    World world = autoWirer.findInstance(World.class).orElseThrow();
+
+    assertSame(Thread.currentThread(), world.constructor);
+    assertSame(Thread.currentThread(), world.initializer);
+  }
+
+  private static <T> void runUntil(LinkedBlockingQueue<Runnable> tasks, CompletableFuture<T> future) throws Exception {
+    while (!future.isDone()) {
+      Runnable task = tasks.poll(10, TimeUnit.MILLISECONDS);
+
+      if (task != null)
+        task.run();
+    }
+
+    future.get();
+  }
+
+  private static void resetDatabase() {
+    Database.constructions.set(0);
+    Database.failing = false;
+  }
+
+  private static AutoWirer addBindings(AutoWirer autoWirer) {
+    return autoWirer
+      .addSingleton(Config.class)
+      .addSingleton(Cache.class)
+      .addSingleton(Database.class)
+      .addSingleton(Service.class);
+  }
+}
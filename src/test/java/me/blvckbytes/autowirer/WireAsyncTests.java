@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WireAsyncTests {
+
+  static final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+  @MainThread
+  public static class World implements IInitializable {
+    public World() {
+      threads.put("World", Thread.currentThread());
+    }
+
+    @Override
+    public void initialize() {
+      threads.put("World#initialize", Thread.currentThread());
+    }
+  }
+
+  public static class Database implements IInitializable {
+    public Database() {
+      threads.put("Database", Thread.currentThread());
+    }
+
+    @Override
+    public void initialize() {
+      threads.put("Database#initialize", Thread.currentThread());
+    }
+  }
+
+  public static class Service {
+    public Service(World world, Database database) {}
+  }
+
+  public interface IScoreboard {
+    Thread creator();
+  }
+
+  @MainThread
+  public static class Scoreboard implements IScoreboard {
+    private final Thread creator = Thread.currentThread();
+
+    @Override
+    public Thread creator() {
+      return creator;
+    }
+  }
+
+  /**
+   * Stands in for the scheduler of the server, which runs tasks on the thread which drives it
+   */
+  private static final class MainThreadLoop implements Executor {
+    private final LinkedBlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    <T> T runUntil(CompletableFuture<T> future) throws Exception {
+      while (!future.isDone()) {
+        Runnable task = tasks.poll(10, TimeUnit.MILLISECONDS);
+
+        if (task != null)
+          task.run();
+      }
+
+      return future.get();
+    }
+  }
+
+  @Test
+  public void shouldWorkOnMainThreadBindingsOnTheMainThread() throws Exception {
+    assertWorksOnMainThread(new AutoWirer());
+  }
+
+  @Test
+  public void shouldWorkOnMainThreadBindingsOnTheMainThreadInParallel() throws Exception {
+    assertWorksOnMainThread(new AutoWirer().parallelWiring().parallelInitialization());
+  }
+
+  @Test
+  public void shouldCreateLazyMainThreadBindingsOnTheMainThread() throws Exception {
+    MainThreadLoop loop = new MainThreadLoop();
+
+    AutoWirer autoWirer = loop.runUntil(new AutoWirer().addLazySingleton(Scoreboard.class).wireAsync(loop));
+    IScoreboard scoreboard = autoWirer.findInstance(IScoreboard.class).orElseThrow();
+
+    assertSame(Thread.currentThread(), loop.runUntil(CompletableFuture.supplyAsync(scoreboard::creator)));
+  }
+
+  @Test
+  public void shouldWireSynchronouslyOnTheMainThreadAfterWiringAsynchronously() throws Exception {
+    CompletableFuture<Integer> result = new CompletableFuture<>();
+
+    // Runs on a thread of its own, as a deadlock would otherwise stall the test
+    Thread mainThread = new Thread(() -> {
+      try {
+        MainThreadLoop loop = new MainThreadLoop();
+        AutoWirer autoWirer = addBindings(new AutoWirer().parallelWiring().parallelInitialization());
+
+        loop.runUntil(autoWirer.wireAsync(loop));
+        autoWirer.cleanup();
+
+        threads.clear();
+        addBindings(autoWirer).wire(null);
+
+        assertSame(Thread.currentThread(), threads.get("World"));
+        assertSame(Thread.currentThread(), threads.get("World#initialize"));
+        result.complete(autoWirer.getInstancesCount());
+      } catch (Throwable throwable) {
+        result.completeExceptionally(throwable);
+      }
+    });
+
+    mainThread.setDaemon(true);
+    mainThread.start();
+
+    // The wirer itself is only registered once, and cleanup removes it along with the rest
+    assertEquals(3, result.get(10, TimeUnit.SECONDS).intValue());
+  }
+
+  private void assertWorksOnMainThread(AutoWirer autoWirer) throws Exception {
+    threads.clear();
+
+    MainThreadLoop loop = new MainThreadLoop();
+    Map<String, Thread> listeners = new ConcurrentHashMap<>();
+
+    autoWirer.addInstantiationListener(World.class, (world, dependencies) -> listeners.put("World", Thread.currentThread()));
+    loop.runUntil(addBindings(autoWirer).wireAsync(loop));
+
+    assertEquals(4, autoWirer.getInstancesCount());
+    assertSame(Thread.currentThread(), threads.get("World"));
+    assertSame(Thread.currentThread(), threads.get("World#initialize"));
+    assertSame(Thread.currentThread(), listeners.get("World"));
+    assertNotSame(Thread.currentThread(), threads.get("Database"));
+    assertNotSame(Thread.currentThread(), threads.get("Database#initialize"));
+  }
+
+  private static AutoWirer addBindings(AutoWirer autoWirer) {
+    return autoWirer
+      .addSingleton(Service.class)
+      .addSingleton(World.class)
+      .addSingleton(Database.class);
+  }
+}
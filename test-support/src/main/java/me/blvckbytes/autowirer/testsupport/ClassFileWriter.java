@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.testsupport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the bytecode of minimal classes, which only consist of a single public constructor
+ * that ignores its parameters and of methods without parameters and bodies. That is all it
+ * takes to make up a binding, without depending on a bytecode library.
+ */
+final class ClassFileWriter {
+
+  private static final int VERSION = 65;
+
+  private static final int ACC_PUBLIC = 0x0001;
+  private static final int ACC_SUPER = 0x0020;
+  private static final int ACC_INTERFACE = 0x0200;
+  private static final int ACC_ABSTRACT = 0x0400;
+
+  private static final int TAG_UTF8 = 1;
+  private static final int TAG_CLASS = 7;
+  private static final int TAG_METHOD_REF = 10;
+  private static final int TAG_NAME_AND_TYPE = 12;
+
+  private static final String OBJECT = "java/lang/Object";
+
+  private final ByteArrayOutputStream constantBytes = new ByteArrayOutputStream();
+  private final DataOutputStream constants = new DataOutputStream(constantBytes);
+  private final Map<String, Integer> constantIndices = new HashMap<>();
+  private int constantCount = 1;
+
+  private ClassFileWriter() {}
+
+  /**
+   * Writes an empty public interface
+   *
+   * @param name Binary name of the interface
+   */
+  static byte[] writeInterface(String name) {
+    ClassFileWriter writer = new ClassFileWriter();
+    return writer.write(ACC_PUBLIC | ACC_INTERFACE | ACC_ABSTRACT, name, new String[0], null, new String[0]);
+  }
+
+  /**
+   * Writes a public class with a single public constructor
+   *
+   * @param name Binary name of the class
+   * @param interfaces Binary names of the implemented interfaces
+   * @param parameters Binary names of the constructor's parameter types
+   * @param methods Names of public methods without parameters and without a body
+   */
+  static byte[] writeClass(String name, String[] interfaces, String[] parameters, String[] methods) {
+    ClassFileWriter writer = new ClassFileWriter();
+    return writer.write(ACC_PUBLIC | ACC_SUPER, name, interfaces, parameters, methods);
+  }
+
+  private byte[] write(int access, String name, String[] interfaces, String[] parameters, String[] methods) {
+    try {
+      int thisClass = classConstant(name);
+      int superClass = classConstant(OBJECT);
+
+      int[] interfaceIndices = new int[interfaces.length];
+
+      for (int i = 0; i < interfaces.length; i++)
+        interfaceIndices[i] = classConstant(interfaces[i]);
+
+      List<byte[]> methodBytes = new ArrayList<>();
+
+      if (parameters != null)
+        methodBytes.add(writeConstructor(superClass, parameters));
+
+      for (String method : methods)
+        methodBytes.add(writeMethod(method, "()V", 0, 1, new byte[] { (byte) 0xB1 }));
+
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      DataOutputStream output = new DataOutputStream(result);
+
+      output.writeInt(0xCAFEBABE);
+      output.writeShort(0);
+      output.writeShort(VERSION);
+      output.writeShort(constantCount);
+      constants.flush();
+      output.write(constantBytes.toByteArray());
+      output.writeShort(access);
+      output.writeShort(thisClass);
+      output.writeShort(superClass);
+      output.writeShort(interfaceIndices.length);
+
+      for (int interfaceIndex : interfaceIndices)
+        output.writeShort(interfaceIndex);
+
+      // Fields
+      output.writeShort(0);
+
+      output.writeShort(methodBytes.size());
+
+      for (byte[] method : methodBytes)
+        output.write(method);
+
+      // Attributes
+      output.writeShort(0);
+
+      return result.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private byte[] writeConstructor(int superClass, String[] parameters) throws IOException {
+    StringBuilder descriptor = new StringBuilder("(");
+
+    for (String parameter : parameters)
+      descriptor.append('L').append(parameter.replace('.', '/')).append(';');
+
+    descriptor.append(")V");
+
+    int superConstructor = methodConstant(superClass, "<init>", "()V");
+
+    // aload_0, invokespecial Object.<init>, return
+    byte[] code = {
+      0x2A,
+      (byte) 0xB7, (byte) (superConstructor >> 8), (byte) superConstructor,
+      (byte) 0xB1
+    };
+
+    return writeMethod("<init>", descriptor.toString(), 1, 1 + parameters.length, code);
+  }
+
+  private byte[] writeMethod(String name, String descriptor, int maxStack, int maxLocals, byte[] code) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(result);
+
+    output.writeShort(ACC_PUBLIC);
+    output.writeShort(utf8Constant(name));
+    output.writeShort(utf8Constant(descriptor));
+    output.writeShort(1);
+
+    output.writeShort(utf8Constant("Code"));
+    output.writeInt(12 + code.length);
+    output.writeShort(maxStack);
+    output.writeShort(maxLocals);
+    output.writeInt(code.length);
+    output.write(code);
+    // Exception table and attributes
+    output.writeShort(0);
+    output.writeShort(0);
+
+    return result.toByteArray();
+  }
+
+  private int utf8Constant(String value) throws IOException {
+    Integer index = constantIndices.get("U" + value);
+
+    if (index != null)
+      return index;
+
+    constants.writeByte(TAG_UTF8);
+    constants.writeUTF(value);
+    return register("U" + value);
+  }
+
+  private int classConstant(String name) throws IOException {
+    String internalName = name.replace('.', '/');
+    Integer index = constantIndices.get("C" + internalName);
+
+    if (index != null)
+      return index;
+
+    int nameIndex = utf8Constant(internalName);
+    constants.writeByte(TAG_CLASS);
+    constants.writeShort(nameIndex);
+    return register("C" + internalName);
+  }
+
+  private int methodConstant(int owner, String name, String descriptor) throws IOException {
+    int nameIndex = utf8Constant(name);
+    int descriptorIndex = utf8Constant(descriptor);
+
+    constants.writeByte(TAG_NAME_AND_TYPE);
+    constants.writeShort(nameIndex);
+    constants.writeShort(descriptorIndex);
+    int nameAndType = register("N" + name + descriptor);
+
+    constants.writeByte(TAG_METHOD_REF);
+    constants.writeShort(owner);
+    constants.writeShort(nameAndType);
+    return register("M" + owner + name + descriptor);
+  }
+
+  private int register(String key) {
+    constantIndices.put(key, constantCount);
+    return constantCount++;
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.testsupport;
+
+import me.blvckbytes.autowirer.ICleanable;
+import me.blvckbytes.autowirer.IInitializable;
+
+import java.util.*;
+
+/**
+ * Generates layered graphs of classes at runtime, which can be bound as singletons in order to
+ * test and benchmark the AutoWirer at scale without hand-written fixtures. Every class has a
+ * single public constructor taking instances of the previous layer, and may implement its own
+ * interface as well as {@link IInitializable} and {@link ICleanable}, with empty methods.
+ * <p>
+ * The classes are defined by a class loader of their own, rather than as hidden classes,
+ * as hidden classes cannot be referred to by the constructors of other classes.
+ */
+public final class GraphGenerator {
+
+  private static final String PACKAGE = "me.blvckbytes.autowirer.generated.";
+
+  private int nodes = 100;
+  private int depth = 8;
+  private int fanIn = 2;
+  private int fanOut;
+  private double interfaceRatio = 1;
+  private double initializableShare;
+  private double cleanableShare;
+  private long seed = 1;
+
+  /**
+   * @param nodes Number of generated classes
+   * @return The generator with the number of classes set
+   */
+  public GraphGenerator nodes(int nodes) {
+    if (nodes <= 0)
+      throw new IllegalArgumentException("There has to be at least one node");
+
+    this.nodes = nodes;
+    return this;
+  }
+
+  /**
+   * @param depth Number of layers, limited by the number of nodes
+   * @return The generator with the number of layers set
+   */
+  public GraphGenerator depth(int depth) {
+    if (depth <= 0)
+      throw new IllegalArgumentException("There has to be at least one layer");
+
+    this.depth = depth;
+    return this;
+  }
+
+  /**
+   * @param fanIn Maximum number of constructor parameters per class, limited by the size of the previous layer
+   * @return The generator with the fan-in set
+   */
+  public GraphGenerator fanIn(int fanIn) {
+    this.fanIn = Math.max(0, fanIn);
+    return this;
+  }
+
+  /**
+   * @param fanOut Maximum number of dependents per class, where zero means no limit
+   * @return The generator with the fan-out set
+   */
+  public GraphGenerator fanOut(int fanOut) {
+    this.fanOut = Math.max(0, fanOut);
+    return this;
+  }
+
+  /**
+   * @param ratio Share of classes in [0, 1] which implement an interface of their own
+   * @return The generator with the interface ratio set
+   */
+  public GraphGenerator interfaceRatio(double ratio) {
+    this.interfaceRatio = requireShare(ratio);
+    return this;
+  }
+
+  /**
+   * @param share Share of classes in [0, 1] which implement {@link IInitializable}
+   * @return The generator with the share of initializables set
+   */
+  public GraphGenerator initializableShare(double share) {
+    this.initializableShare = requireShare(share);
+    return this;
+  }
+
+  /**
+   * @param share Share of classes in [0, 1] which implement {@link ICleanable}
+   * @return The generator with the share of cleanables set
+   */
+  public GraphGenerator cleanableShare(double share) {
+    this.cleanableShare = requireShare(share);
+    return this;
+  }
+
+  /**
+   * @param seed Seed of all random choices, where equal settings and seeds yield equal graphs
+   * @return The generator with the seed set
+   */
+  public GraphGenerator seed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  /**
+   * Generates a new graph with the current settings, within a class loader of its own
+   */
+  public SyntheticGraph generate() {
+    int layers = Math.min(depth, nodes);
+    Random random = new Random(seed);
+
+    int[] layerStart = new int[layers + 1];
+
+    for (int layer = 0; layer <= layers; layer++)
+      layerStart[layer] = (int) ((long) layer * nodes / layers);
+
+    String[] classNames = new String[nodes];
+    String[] interfaceNames = new String[nodes];
+    int[][] dependencies = new int[nodes][];
+    int[] dependents = new int[nodes];
+    Map<String, byte[]> definitions = new HashMap<>();
+
+    for (int layer = 0; layer < layers; layer++) {
+      for (int node = layerStart[layer]; node < layerStart[layer + 1]; node++) {
+        classNames[node] = PACKAGE + "Node" + node;
+        dependencies[node] = layer == 0 ? new int[0] : chooseDependencies(layerStart[layer - 1], layerStart[layer], dependents, random);
+
+        List<String> implemented = new ArrayList<>();
+        List<String> methods = new ArrayList<>();
+
+        if (random.nextDouble() < interfaceRatio) {
+          interfaceNames[node] = PACKAGE + "Service" + node;
+          implemented.add(interfaceNames[node]);
+          definitions.put(interfaceNames[node], ClassFileWriter.writeInterface(interfaceNames[node]));
+        }
+
+        if (random.nextDouble() < initializableShare) {
+          implemented.add(IInitializable.class.getName());
+          methods.add("initialize");
+        }
+
+        if (random.nextDouble() < cleanableShare) {
+          implemented.add(ICleanable.class.getName());
+          methods.add("cleanup");
+        }
+
+        String[] parameters = Arrays.stream(dependencies[node])
+          .mapToObj(dependency -> classNames[dependency])
+          .toArray(String[]::new);
+
+        definitions.put(classNames[node], ClassFileWriter.writeClass(
+          classNames[node], implemented.toArray(new String[0]), parameters, methods.toArray(new String[0])
+        ));
+      }
+    }
+
+    return SyntheticGraph.load(definitions, classNames, interfaceNames, dependencies, layers);
+  }
+
+  /**
+   * Chooses up to fan-in distinct dependencies within the given range of the previous layer,
+   * skipping those which already reached the maximum number of dependents
+   */
+  private int[] chooseDependencies(int from, int to, int[] dependents, Random random) {
+    List<Integer> candidates = new ArrayList<>(to - from);
+
+    for (int candidate = from; candidate < to; candidate++) {
+      if (fanOut == 0 || dependents[candidate] < fanOut)
+        candidates.add(candidate);
+    }
+
+    Collections.shuffle(candidates, random);
+
+    int[] result = new int[Math.min(fanIn, candidates.size())];
+
+    for (int i = 0; i < result.length; i++) {
+      result[i] = candidates.get(i);
+      ++dependents[result[i]];
+    }
+
+    return result;
+  }
+
+  private static double requireShare(double share) {
+    if (share < 0 || share > 1)
+      throw new IllegalArgumentException("Shares have to be within [0, 1]");
+
+    return share;
+  }
+}
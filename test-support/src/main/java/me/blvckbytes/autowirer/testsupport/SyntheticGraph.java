@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.testsupport;
+
+import me.blvckbytes.autowirer.AutoWirer;
+
+import java.util.Map;
+
+/**
+ * A graph of classes which have been generated by a {@link GraphGenerator}, where nodes are
+ * numbered in dependency order, thus dependencies always have a lower number than dependents.
+ */
+public final class SyntheticGraph {
+
+  private final Class<?>[] classes;
+  private final Class<?>[] interfaces;
+  private final int[][] dependencies;
+  private final int depth;
+
+  private SyntheticGraph(Class<?>[] classes, Class<?>[] interfaces, int[][] dependencies, int depth) {
+    this.classes = classes;
+    this.interfaces = interfaces;
+    this.dependencies = dependencies;
+    this.depth = depth;
+  }
+
+  static SyntheticGraph load(
+    Map<String, byte[]> definitions,
+    String[] classNames,
+    String[] interfaceNames,
+    int[][] dependencies,
+    int depth
+  ) {
+    GeneratedClassLoader loader = new GeneratedClassLoader(definitions);
+    Class<?>[] classes = new Class<?>[classNames.length];
+    Class<?>[] interfaces = new Class<?>[classNames.length];
+
+    try {
+      for (int node = 0; node < classNames.length; node++) {
+        classes[node] = Class.forName(classNames[node], false, loader);
+
+        if (interfaceNames[node] != null)
+          interfaces[node] = Class.forName(interfaceNames[node], false, loader);
+      }
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return new SyntheticGraph(classes, interfaces, dependencies, depth);
+  }
+
+  /**
+   * Adds all classes of this graph as singletons, dependents before their dependencies,
+   * so that the registration order does not already resolve the graph
+   *
+   * @param autoWirer AutoWirer to add the singletons to
+   * @return The AutoWirer with all singletons added
+   */
+  public AutoWirer addTo(AutoWirer autoWirer) {
+    for (int node = classes.length - 1; node >= 0; node--)
+      autoWirer.addSingleton(classes[node]);
+
+    return autoWirer;
+  }
+
+  /**
+   * Get the generated class of a node
+   */
+  public Class<?> getClass(int node) {
+    return classes[node];
+  }
+
+  /**
+   * Get the interface which only the class of a node implements, null if there is none
+   */
+  public Class<?> getInterface(int node) {
+    return interfaces[node];
+  }
+
+  /**
+   * Get the nodes the class of a node takes as constructor parameters, in order
+   */
+  public int[] getDependencies(int node) {
+    return dependencies[node].clone();
+  }
+
+  /**
+   * Get the number of nodes
+   */
+  public int size() {
+    return classes.length;
+  }
+
+  /**
+   * Get the number of layers
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  private static final class GeneratedClassLoader extends ClassLoader {
+
+    private final Map<String, byte[]> definitions;
+
+    private GeneratedClassLoader(Map<String, byte[]> definitions) {
+      super(AutoWirer.class.getClassLoader());
+      this.definitions = definitions;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      byte[] definition = definitions.get(name);
+
+      if (definition == null)
+        throw new ClassNotFoundException(name);
+
+      return defineClass(name, definition, 0, definition.length);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.autowirer.testsupport;
+
+import me.blvckbytes.autowirer.AutoWirer;
+import me.blvckbytes.autowirer.IInitializable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphGeneratorTests {
+
+  @Test
+  public void shouldGenerateEqualGraphsForEqualSeeds() {
+    SyntheticGraph first = new GraphGenerator().nodes(50).depth(5).fanIn(3).seed(7).generate();
+    SyntheticGraph second = new GraphGenerator().nodes(50).depth(5).fanIn(3).seed(7).generate();
+
+    assertEquals(first.size(), second.size());
+
+    for (int node = 0; node < first.size(); node++) {
+      assertArrayEquals(first.getDependencies(node), second.getDependencies(node));
+      assertEquals(first.getClass(node).getName(), second.getClass(node).getName());
+    }
+  }
+
+  @Test
+  public void shouldRespectFanInAndFanOut() {
+    SyntheticGraph graph = new GraphGenerator().nodes(60).depth(4).fanIn(3).fanOut(2).seed(3).generate();
+    int[] dependents = new int[graph.size()];
+
+    for (int node = 0; node < graph.size(); node++) {
+      int[] dependencies = graph.getDependencies(node);
+      assertTrue(dependencies.length <= 3);
+
+      for (int dependency : dependencies) {
+        assertTrue(dependency < node);
+        ++dependents[dependency];
+      }
+
+      Constructor<?>[] constructors = graph.getClass(node).getConstructors();
+      assertEquals(1, constructors.length);
+      assertEquals(dependencies.length, constructors[0].getParameterCount());
+    }
+
+    for (int count : dependents)
+      assertTrue(count <= 2);
+  }
+
+  @Test
+  public void shouldGenerateInterfacesAndInitializablesByShare() {
+    SyntheticGraph graph = new GraphGenerator().nodes(20).interfaceRatio(0).initializableShare(1).generate();
+
+    for (int node = 0; node < graph.size(); node++) {
+      assertNull(graph.getInterface(node));
+      assertTrue(IInitializable.class.isAssignableFrom(graph.getClass(node)));
+    }
+  }
+
+  @Test
+  public void shouldBeWiredByAutoWirer() {
+    SyntheticGraph graph = new GraphGenerator().nodes(200).depth(8).fanIn(3).interfaceRatio(.5).seed(11).generate();
+    AutoWirer autoWirer = graph.addTo(new AutoWirer()).wire(null);
+
+    for (int node = 0; node < graph.size(); node++) {
+      Object instance = autoWirer.findInstance(graph.getClass(node)).orElseThrow();
+
+      if (graph.getInterface(node) != null)
+        assertSame(instance, autoWirer.findInstance(graph.getInterface(node)).orElseThrow());
+    }
+  }
+}